@@ -0,0 +1,81 @@
+package com.ijin.hanaro.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 1건당 JWT 필터 비용.
+ * - legacy: 매 호출 키 재생성 + getUsername/getRole 로 서명 검증 2회 (변경 전 동작 재현)
+ * - singleParseUncached: 키/파서 재사용 + 1회 검증 (캐시 미스 상황)
+ * - filterCached: 현재 JwtAuthenticationFilter (같은 토큰 반복 → 캐시 적중)
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "change-this-to-a-very-long-secret-key-change-this";
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private HttpServletRequest request;
+    private final HttpServletResponse response = proxy(HttpServletResponse.class, null);
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(10_000);
+        filter = new JwtAuthenticationFilter(jwtUtil);
+        token = jwtUtil.generateToken("bench_user", "ROLE_USER");
+        request = proxy(HttpServletRequest.class, "Bearer " + token);
+    }
+
+    @Benchmark
+    public Object legacy() {
+        // 변경 전: key() 가 매번 Keys.hmacShaKeyFor, parse 가 매번 parserBuilder().build(), 두 번 파싱
+        String username = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseClaimsJws(token).getBody().getSubject();
+        String role = (String) Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseClaimsJws(token).getBody().get("role");
+        var auth = new UsernamePasswordAuthenticationToken(username, null, List.of(new SimpleGrantedAuthority(role)));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        return auth;
+    }
+
+    @Benchmark
+    public Object singleParseUncached() {
+        return jwtUtil.parse(token).getBody();
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        filter.doFilterInternal(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    /** Authorization 헤더만 돌려주는 최소 서블릿 객체 (나머지 메서드는 기본값) */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, String authorization) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, m, args) -> {
+            if (m.getName().equals("getHeader") && "Authorization".equals(args[0])) return authorization;
+            Class<?> rt = m.getReturnType();
+            if (rt == boolean.class) return false;
+            if (rt == int.class) return 0;
+            if (rt == long.class) return 0L;
+            return null;
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.ijin.hanaro.journal;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 이벤트 저널 단일 코어 기록/재생 처리량. 목표: 기록 100k events/s 이상 (= 10us/op 이하).
+ * 실행: ./gradlew jmh -Pjmh.includes=EventJournalBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Warmup(time = 1)
+@Measurement(time = 1) // 기록량이 초당 수백 MB 가 될 수 있어 짧게, 반복마다 새 디렉터리
+public class EventJournalBenchmark {
+
+    private static final int REPLAY_EVENTS = 1_000_000;
+
+    private Path dir;
+    private EventJournal journal;
+    private long orderId;
+
+    private Path replayDir;
+    private EventJournal replayJournal;
+
+    @Setup(Level.Iteration)
+    public void openJournal() throws IOException {
+        dir = Files.createTempDirectory("journal-bench");
+        journal = new EventJournal(dir, 64 * 1024 * 1024);
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeJournal() throws IOException {
+        journal.close();
+        delete(dir);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        replayDir = Files.createTempDirectory("journal-bench-replay");
+        replayJournal = new EventJournal(replayDir, 64 * 1024 * 1024);
+        for (int i = 0; i < REPLAY_EVENTS; i++) {
+            replayJournal.append(new JournalEvent.OrderItemAdded(i, i, i % 500, 1 + i % 3, 1_990_00));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        replayJournal.close();
+        delete(replayDir);
+    }
+
+    @Benchmark
+    public long appendOrderItem() {
+        long id = ++orderId;
+        return journal.append(new JournalEvent.OrderItemAdded(id, id, id % 500, 2, 1_990_00));
+    }
+
+    @Benchmark
+    public long appendStockAdjusted() {
+        long id = ++orderId;
+        return journal.append(new JournalEvent.StockAdjusted(id, id % 500, -1,
+                JournalEvent.StockAdjusted.UNKNOWN, JournalEvent.StockAdjusted.REASON_ORDER));
+    }
+
+    /** 1회 = 100만 건 재생 (events/s = 결과 × 1,000,000) */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MINUTES)
+    public long replayMillion() throws IOException {
+        long[] sum = {0};
+        replayJournal.replay(1, e -> sum[0] += e.timestamp());
+        return sum[0];
+    }
+
+    private static void delete(Path root) throws IOException {
+        try (Stream<Path> s = Files.walk(root)) {
+            for (Path p : s.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(p);
+        }
+    }
+}
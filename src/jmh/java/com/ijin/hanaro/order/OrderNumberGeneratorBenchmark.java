@@ -0,0 +1,32 @@
+package com.ijin.hanaro.order;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문번호 발급 비용 비교 (기존 DateTimeFormatter + Math.random vs TimeSequenceOrderNumberGenerator).
+ * 실행: ./gradlew jmh  (할당량은 -prof gc 로 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class OrderNumberGeneratorBenchmark {
+
+    private final TimeSequenceOrderNumberGenerator generator = new TimeSequenceOrderNumberGenerator(1, "Asia/Seoul");
+
+    @Benchmark
+    public String legacyFormatterAndRandom() {
+        String ts = DateTimeFormatter.ofPattern("yyyyMMddHHmmss").format(LocalDateTime.now());
+        int r = (int) (Math.random() * 9000) + 1000;
+        return ts + r;
+    }
+
+    @Benchmark
+    public String timeSequence() {
+        return generator.next();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ijin.hanaro.product.search;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 100k 건 기준 검색 지연 비교.
+ * - linearScan: lower(name/description) LIKE '%q%' 와 같은 전체 스캔을 메모리에서 수행 (DB I/O 를 뺀 하한값)
+ * - invertedIndex: ProductSearchIndex
+ * 실행: ./gradlew jmh -Pjmh.includes=ProductSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "아이폰", "케이스", "갤럭시", "충전기", "무선", "이어폰", "블루투스", "스피커", "노트북", "파우치",
+            "거치대", "보조배터리", "스마트워치", "스트랩", "키보드", "마우스", "모니터", "받침대", "케이블", "어댑터"
+    };
+
+    @Param({"100000"})
+    int products;
+
+    @Param({"이어폰", "충전 케이블", "스마트워치 스트랩"})
+    String query;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+    private ProductSearchIndex index;
+    private List<String[]> rows;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        index = new ProductSearchIndex(null);
+        rows = new ArrayList<>(products);
+        for (int i = 1; i <= products; i++) {
+            String name = WORDS[rnd.nextInt(WORDS.length)] + " " + WORDS[rnd.nextInt(WORDS.length)] + " " + i;
+            StringBuilder desc = new StringBuilder();
+            for (int w = 0; w < 20; w++) desc.append(WORDS[rnd.nextInt(WORDS.length)]).append(' ');
+            index.add(i, name, desc.toString());
+            rows.add(new String[]{name.toLowerCase(), desc.toString().toLowerCase()});
+        }
+    }
+
+    @Benchmark
+    public Page<Long> invertedIndex() {
+        return index.search(query, pageable);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        String q = query.toLowerCase();
+        int hits = 0;
+        for (String[] r : rows) {
+            if (r[0].contains(q) || r[1].contains(q)) hits++;
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,90 @@
+package com.ijin.hanaro.product.storage;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 업로드 1건 처리 비용: 기존(getBytes → String.format hex → Files.write) vs 단일 패스 ingest.
+ * 업로드마다 앞 8바이트를 바꿔 매번 새 내용으로 저장하고, 디스크가 차지 않도록 저장 직후 지운다 (두 방식 동일).
+ * 실행: ./gradlew jmh -Pjmh.includes=ImageIngestBenchmark  (업로드당 할당량은 gc.alloc.rate.norm)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class ImageIngestBenchmark {
+
+    @Param({"65536", "524288"})
+    public int size;
+
+    private Path root;
+    private LocalImageStorage storage;
+    private byte[] upload;
+    private byte[] digest;
+    private long seq;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("ingest-bench");
+        // 스테이징은 업로드 루트 밖에 둔다 (LocalImageStorage 가 루트 안의 스테이징을 거부)
+        storage = new LocalImageStorage(root.resolve("images").toString(), root.resolve("staging").toString());
+        upload = new byte[size];
+        ThreadLocalRandom.current().nextBytes(upload);
+        digest = MessageDigest.getInstance("SHA-256").digest(upload);
+        Files.createDirectories(root.resolve("legacy"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> s = Files.walk(root)) {
+            for (Path p : s.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(p);
+        }
+    }
+
+    @Benchmark
+    public String legacyGetBytesFormatHex() throws Exception {
+        ByteBuffer.wrap(upload).putLong(0, ++seq);
+        byte[] bytes = new ByteArrayInputStream(upload).readAllBytes(); // MultipartFile.getBytes()
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] dig = md.digest(bytes);
+        StringBuilder sb = new StringBuilder();
+        for (byte b : dig) sb.append(String.format("%02x", b));
+        Path target = root.resolve("legacy").resolve(UUID.randomUUID().toString().replace("-", "") + ".jpg");
+        Files.write(target, bytes, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        Files.delete(target);
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String streamingIngest() throws Exception {
+        ByteBuffer.wrap(upload).putLong(0, ++seq);
+        ImageStorage.StoredImage stored = storage.ingest(new ByteArrayInputStream(upload), ".jpg");
+        storage.release(stored.sha256());
+        storage.delete(stored.storedPath(), stored.storedName());
+        return stored.sha256();
+    }
+
+    @Benchmark
+    public String hexStringFormat() {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest) sb.append(String.format("%02x", b));
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String hexLookupTable() {
+        return HexEncoder.encode(digest);
+    }
+}
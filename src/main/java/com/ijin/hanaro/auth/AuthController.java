@@ -16,6 +16,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -28,22 +30,27 @@ public class AuthController {
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordVerificationExecutor verificationExecutor;
+
     @Operation(summary = "로그인", description = "아이디/비밀번호로 인증 후 JWT를 발급합니다. 응답 토큰을 Swagger의 Authorize(Bearer)로 설정하여 이후 API를 호출하세요.")
     @PostMapping("/login")
-    public LoginResponse login(@Valid @RequestBody LoginRequest req) {
-        try {
-            Authentication auth = authManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(req.username(), req.password())
-            );
+    public CompletableFuture<LoginResponse> login(@Valid @RequestBody LoginRequest req) {
+        // BCrypt 검증은 전용 실행기에서 (서블릿 스레드는 비동기로 반환되어 다른 요청을 처리)
+        return verificationExecutor.submit(() -> {
+            try {
+                Authentication auth = authManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(req.username(), req.password())
+                );
 
-            UserDetails principal = (UserDetails) auth.getPrincipal();
-            String role = principal.getAuthorities().iterator().next().getAuthority();
-            String token = jwtUtil.generateToken(principal.getUsername(), role);
-            long expiresInSec = 30 * 60L; // 30분
-            return new LoginResponse(token, "Bearer", expiresInSec);
-        } catch (BadCredentialsException e) {
-            throw new BadCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다");
-        }
+                UserDetails principal = (UserDetails) auth.getPrincipal();
+                String role = principal.getAuthorities().iterator().next().getAuthority();
+                String token = jwtUtil.generateToken(principal.getUsername(), role);
+                long expiresInSec = 30 * 60L; // 30분
+                return new LoginResponse(token, "Bearer", expiresInSec);
+            } catch (BadCredentialsException e) {
+                throw new BadCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다");
+            }
+        });
     }
 
     /**
@@ -25,11 +25,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (auth != null && auth.startsWith("Bearer ")) {
             String token = auth.substring(7);
             try {
-                String username = jwtUtil.getUsername(token);
-                String role = jwtUtil.getRole(token);
+                // 토큰은 요청당 한 번만 검증 (검증 결과는 JwtUtil 이 만료 시각까지 캐시)
+                JwtUtil.VerifiedToken verified = jwtUtil.verify(token);
 
                 var authToken = new UsernamePasswordAuthenticationToken(
-                        username, null, List.of(new SimpleGrantedAuthority(role)));
+                        verified.username(), null, List.of(new SimpleGrantedAuthority(verified.role())));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             } catch (Exception e) {
                 // 토큰 오류 시 컨텍스트 비움 (401은 컨트롤러/EntryPoint에서 처리 가능)
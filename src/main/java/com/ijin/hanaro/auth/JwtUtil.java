@@ -1,12 +1,21 @@
 // auth/JwtUtil.java
 package com.ijin.hanaro.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -14,7 +23,34 @@ public class JwtUtil {
     private final String SECRET = "change-this-to-a-very-long-secret-key-change-this";
     private final long EXP_MS = 30 * 60 * 1000L; // 30분
 
-    private Key key() { return Keys.hmacShaKeyFor(SECRET.getBytes()); }
+    // 키/파서는 불변이고 스레드 안전하므로 한 번만 생성
+    private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    /** 검증된 토큰의 클레임. 토큰 원문 대신 SHA-256 해시를 키로 만료 시각까지만 보관 (heapdump 에 토큰이 남지 않도록) */
+    private final Cache<String, VerifiedToken> verified;
+
+    public record VerifiedToken(String username, String role, long expiresAtMillis) {}
+
+    public JwtUtil(@Value("${app.jwt.cacheMaxSize:10000}") long cacheMaxSize) {
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String k, VerifiedToken v, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, v.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+                    @Override
+                    public long expireAfterUpdate(String k, VerifiedToken v, long currentTime, long currentDuration) {
+                        return expireAfterCreate(k, v, currentTime);
+                    }
+                    @Override
+                    public long expireAfterRead(String k, VerifiedToken v, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     public String generateToken(String username, String role) {
         Date now = new Date();
@@ -23,14 +59,41 @@ public class JwtUtil {
                 .claim("role", role)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + EXP_MS))
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public Jws<Claims> parse(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(token);
+        return parser.parseClaimsJws(token);
     }
 
-    public String getUsername(String token) { return parse(token).getBody().getSubject(); }
-    public String getRole(String token) { return (String) parse(token).getBody().get("role"); }
-}
\ No newline at end of file
+    /**
+     * 서명/만료 검증 후 사용자명과 권한을 돌려준다. 같은 토큰은 만료 전까지 캐시에서 바로 반환 (서명 검증 1회).
+     * 검증 실패 시 JwtException/IllegalArgumentException
+     */
+    public VerifiedToken verify(String token) {
+        String cacheKey = sha256(token);
+        VerifiedToken v = verified.getIfPresent(cacheKey);
+        if (v != null && v.expiresAtMillis() > System.currentTimeMillis()) {
+            return v;
+        }
+        Claims claims = parse(token).getBody();
+        Date exp = claims.getExpiration();
+        v = new VerifiedToken(claims.getSubject(), (String) claims.get("role"),
+                exp != null ? exp.getTime() : System.currentTimeMillis() + EXP_MS);
+        verified.put(cacheKey, v);
+        return v;
+    }
+
+    public String getUsername(String token) { return verify(token).username(); }
+    public String getRole(String token) { return verify(token).role(); }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+// auth/PasswordVerificationExecutor.java
+package com.ijin.hanaro.auth;
+
+import com.ijin.hanaro.common.error.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 비밀번호 검증(BCrypt) 전용 실행기.
+ * 스레드 수와 대기열 크기를 고정해 로그인 폭주가 서블릿 스레드/CPU 를 독점하지 못하게 하고,
+ * 대기열이 가득 차면 즉시 429, 대기열에서 timeoutMs 이상 기다린 요청은 해싱 없이 429 로 돌려보낸다.
+ */
+@Component
+public class PasswordVerificationExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer hashTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordVerificationExecutor(MeterRegistry meterRegistry,
+                                        @Value("${app.auth.login.threads:0}") int threads,
+                                        @Value("${app.auth.login.queueCapacity:64}") int queueCapacity,
+                                        @Value("${app.auth.login.timeoutMs:2000}") long timeoutMs) {
+        int n = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "login-verify-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+
+        this.hashTimer = Timer.builder("auth.login.hash.time")
+                .description("로그인 1건의 인증(BCrypt 검증 포함) 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.login.queue.wait")
+                .description("검증 실행기 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.login.rejected")
+                .description("대기열 초과/대기 시간 초과로 429 처리된 로그인 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.queue.depth", executor, e -> e.getQueue().size())
+                .description("검증 대기 중인 로그인 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("검증 중인 로그인 수")
+                .register(meterRegistry);
+    }
+
+    /** task 를 검증 전용 스레드에서 실행. 대기열이 가득 차면 TooManyRequestsException 을 즉시 던진다 */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                waitTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (TimeUnit.NANOSECONDS.toMillis(waited) > timeoutMs) {
+                    rejected.increment();
+                    throw new TooManyRequestsException("로그인 요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도하세요", 1);
+                }
+                return hashTimer.record(task);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("로그인 요청이 많습니다. 잠시 후 다시 시도하세요", 1);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,13 @@
+package com.ijin.hanaro.common.error;
+
+/** 처리 한도 초과 (429). retryAfterSeconds 는 Retry-After 헤더로 내려간다 */
+public class TooManyRequestsException extends RuntimeException {
+    private final int retryAfterSeconds;
+
+    public TooManyRequestsException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() { return retryAfterSeconds; }
+}
@@ -0,0 +1,46 @@
+package com.ijin.hanaro.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 공개 상품 조회용 in-process 캐시 (Caffeine, 크기 + TTL 제한).
+ * - productDetail: 상품 id → ProductDetailResponse
+ * - productList  : (q, pageable) → Page&lt;ProductListItemResponse&gt;
+ * 무효화는 트랜잭션 커밋 이후에 반영되도록 TransactionAwareCacheManagerProxy 로 감싼다.
+ * hit/miss/eviction 은 Actuator 가 cache.gets / cache.evictions 메트릭으로 MeterRegistry 에 등록한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRODUCT_DETAIL = "productDetail";
+    public static final String PRODUCT_LIST = "productList";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.product.detailMaxSize:10000}") long detailMaxSize,
+            @Value("${app.cache.product.listMaxSize:2000}") long listMaxSize,
+            @Value("${app.cache.product.ttlSeconds:60}") long ttlSeconds) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.registerCustomCache(PRODUCT_DETAIL, Caffeine.newBuilder()
+                .maximumSize(detailMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build());
+        manager.registerCustomCache(PRODUCT_LIST, Caffeine.newBuilder()
+                .maximumSize(listMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+}
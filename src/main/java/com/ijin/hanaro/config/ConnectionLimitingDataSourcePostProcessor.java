@@ -0,0 +1,153 @@
+package com.ijin.hanaro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true) 전용 커넥션 동시성 제한.
+ * 요청마다 가상 스레드가 생기면 수천 개가 동시에 HikariCP 로 몰리므로, 커넥션 획득 전에
+ * 풀 크기만큼의 permit 을 가진 공정 세마포어로 줄을 세운다. 커넥션을 닫을 때 permit 을 반납한다.
+ * acquireTimeoutMs 안에 permit 을 못 얻으면 SQLTransientConnectionException (Hikari 타임아웃과 같은 종류).
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionLimitingDataSourcePostProcessor implements BeanPostProcessor, SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionLimitingDataSourcePostProcessor.class);
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int configuredPermits;
+    private final long acquireTimeoutMs;
+    private LimitingDataSource limiter;
+
+    public ConnectionLimitingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                     @Value("${app.db.limiter.permits:0}") int configuredPermits,
+                                                     @Value("${app.db.limiter.acquireTimeoutMs:5000}") long acquireTimeoutMs) {
+        this.meterRegistry = meterRegistry;
+        this.configuredPermits = configuredPermits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource ds && !(bean instanceof LimitingDataSource) && limiter == null) {
+            int permits = configuredPermits > 0 ? configuredPermits : poolSize(ds);
+            limiter = new LimitingDataSource(ds, permits, acquireTimeoutMs);
+            log.info("[VirtualThreads] DB 커넥션 동시성 제한 permits={} acquireTimeoutMs={}", permits, acquireTimeoutMs);
+            return limiter;
+        }
+        return bean;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null || limiter == null) return;
+        Gauge.builder("db.limiter.waiting", limiter.semaphore, Semaphore::getQueueLength)
+                .description("커넥션 permit 대기 중인 스레드 수")
+                .register(registry);
+        Gauge.builder("db.limiter.available", limiter.semaphore, Semaphore::availablePermits)
+                .description("남은 커넥션 permit 수")
+                .register(registry);
+    }
+
+    private static int poolSize(DataSource ds) {
+        try {
+            if (ds.isWrapperFor(HikariDataSource.class)) {
+                return ds.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ignored) {
+            // 기본값 사용
+        }
+        return 10; // HikariCP 기본 maximumPoolSize
+    }
+
+    static class LimitingDataSource extends DelegatingDataSource {
+        private final Semaphore semaphore;
+        private final long acquireTimeoutMs;
+
+        LimitingDataSource(DataSource target, int permits, long acquireTimeoutMs) {
+            super(target);
+            this.semaphore = new Semaphore(permits, true);
+            this.acquireTimeoutMs = acquireTimeoutMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            try {
+                return releasingOnClose(super.getConnection());
+            } catch (SQLException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            try {
+                return releasingOnClose(super.getConnection(username, password));
+            } catch (SQLException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+        }
+
+        private void acquire() throws SQLException {
+            try {
+                if (!semaphore.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException(
+                            "DB 커넥션 대기 시간 초과 (" + acquireTimeoutMs + "ms, 대기 " + semaphore.getQueueLength() + ")");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트", e);
+            }
+        }
+
+        private Connection releasingOnClose(Connection target) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            } finally {
+                                semaphore.release();
+                            }
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
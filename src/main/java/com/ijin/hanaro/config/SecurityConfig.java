@@ -4,6 +4,7 @@ package com.ijin.hanaro.config;
 import com.ijin.hanaro.auth.JwtAuthenticationFilter;
 import com.ijin.hanaro.auth.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.*;
 import org.springframework.security.authentication.*;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -60,8 +61,11 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /** strength 는 새로 만드는 해시에만 적용 (기존 해시는 자신의 cost 로 검증됨) */
     @Bean
-    public PasswordEncoder passwordEncoder() { return new BCryptPasswordEncoder(); }
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration cfg) throws Exception {
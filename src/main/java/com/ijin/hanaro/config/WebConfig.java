@@ -14,7 +14,9 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 예: /upload/2025/08/11/abc.jpg  →  {uploadRoot}/2025/08/11/abc.jpg
+        // 예: /upload/ab/cd/{sha256}.jpg  →  {uploadRoot}/ab/cd/{sha256}.jpg (LocalImageStorage)
+        // 쓰는 중인 임시 파일은 uploadRoot 밖(app.upload.staging)에 있으므로 여기로 노출되지 않는다
+        // classpath:/static/upload/ 는 예전 날짜 경로(/upload/yyyy/MM/dd/uuid.jpg) 이미지용
         registry.addResourceHandler("/upload/**")
                 .addResourceLocations("file:" + ensureTrailingSlash(uploadRoot),
                         "classpath:/static/upload/")
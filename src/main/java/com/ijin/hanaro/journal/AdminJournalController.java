@@ -0,0 +1,37 @@
+package com.ijin.hanaro.journal;
+
+import com.ijin.hanaro.journal.dto.JournalSalesResponse;
+import com.ijin.hanaro.journal.dto.StockHistoryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/admin/journal")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminJournalController {
+
+    private final JournalReplayService replayService;
+
+    @GetMapping("/replay/daily-sales")
+    @Operation(summary = "이벤트 저널 재생으로 일별/상품별 매출 재계산",
+            description = "MySQL 을 조회하지 않고 저널만으로 from~to 매출을 다시 계산합니다 (daily_sales 검증/복구용)")
+    public JournalSalesResponse dailySales(
+            @Parameter(description="시작일(yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description="종료일(yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ){
+        return replayService.dailySales(from, to);
+    }
+
+    @GetMapping("/replay/stock/{productId}")
+    @Operation(summary = "이벤트 저널 재생으로 상품 재고 이력 조회")
+    public StockHistoryResponse stockHistory(@PathVariable Long productId) {
+        return replayService.stockHistory(productId);
+    }
+}
@@ -0,0 +1,125 @@
+package com.ijin.hanaro.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 주문/재고 이벤트를 EventJournal 에 기록하는 진입점.
+ * 트랜잭션 안에서 호출되면 이벤트를 모아 두었다가 커밋 후에 한 번에 기록한다 (롤백된 주문은 저널에 남지 않음).
+ * 저널 기록 실패는 로그/지표만 남기고 업무 흐름에는 전파하지 않는다 (원본은 여전히 MySQL).
+ */
+@Component
+public class BusinessEventJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(BusinessEventJournal.class);
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final EventJournal journal;
+    private final Counter appended;
+    private final Counter failed;
+
+    public BusinessEventJournal(@Value("${app.journal.enabled:true}") boolean enabled,
+                                @Value("${app.journal.dir:./journal}") String dir,
+                                @Value("${app.journal.segmentBytes:67108864}") int segmentBytes,
+                                MeterRegistry meterRegistry) throws IOException {
+        this.journal = enabled ? new EventJournal(Path.of(dir), segmentBytes) : null;
+        this.appended = Counter.builder("journal.events.appended").register(meterRegistry);
+        this.failed = Counter.builder("journal.events.failed").register(meterRegistry);
+        if (journal != null) {
+            Gauge.builder("journal.last.seq", journal, EventJournal::lastSeq).register(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return journal != null;
+    }
+
+    /** 이벤트 기록. 트랜잭션 중이면 커밋 후에 기록된다 */
+    public void record(JournalEvent event) {
+        if (journal == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<JournalEvent> pending = (List<JournalEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<JournalEvent> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() { append(buffer); }
+                @Override public void afterCompletion(int status) { TransactionSynchronizationManager.unbindResourceIfPossible(BusinessEventJournal.this); }
+            });
+            pending = buffer;
+        }
+        pending.add(event);
+    }
+
+    /** 저널 전체를 처음부터 읽는다 (MySQL 미사용) */
+    public long replay(Consumer<JournalEvent> consumer) throws IOException {
+        if (journal == null) throw new IllegalStateException("이벤트 저널이 비활성화되어 있습니다 (app.journal.enabled)");
+        return journal.replay(1, consumer);
+    }
+
+    /** 주기적으로 디스크에 반영 (그 사이에는 OS 페이지 캐시에만 있음) */
+    @Scheduled(fixedDelayString = "${app.journal.forceIntervalMs:1000}")
+    public void force() {
+        if (journal != null) journal.force();
+    }
+
+    @PreDestroy
+    void close() {
+        if (journal != null) journal.close();
+    }
+
+    private void append(List<JournalEvent> events) {
+        try {
+            for (JournalEvent e : events) {
+                journal.append(e);
+                appended.increment();
+            }
+        } catch (RuntimeException ex) {
+            failed.increment();
+            log.error("JOURNAL_APPEND_FAILED events={} error={}", events.size(), ex.toString());
+        }
+    }
+
+    // ===== 변환 도우미 =====
+
+    public static long millis(LocalDateTime t) {
+        return t.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    public static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+
+    /** 금액(원, 소수 2자리) → cents */
+    public static long cents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal amount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
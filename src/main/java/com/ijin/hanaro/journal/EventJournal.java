@@ -0,0 +1,302 @@
+package com.ijin.hanaro.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 추가 전용(append-only) 이벤트 저널. 고정 크기 세그먼트 파일을 메모리 매핑해 기록한다.
+ *
+ * 세그먼트: {dir}/{첫 seq 20자리}.seg, 크기 segmentBytes. 공간이 모자라면 다음 세그먼트로 넘어간다.
+ * 레코드:  [int len][byte type][long seq][long ts][payload][int crc32c]
+ *          len = type~payload 바이트 수, crc 는 type~payload 대상. len == 0 이면 세그먼트 끝.
+ * 기록은 매핑된 버퍼에 쓰기만 하므로 시스템콜이 없고, 디스크 반영은 OS 또는 force() 가 맡는다.
+ * 열 때 마지막 세그먼트를 처음부터 검사해 CRC/seq 가 맞는 마지막 레코드 뒤부터 이어 쓴다 (찢어진 꼬리는 버림).
+ * 디렉터리는 한 프로세스(한 인스턴스)만 쓸 수 있다: {dir}/journal.lock 에 배타 FileLock 을 잡고, 이미 잡혀 있으면 열지 않는다
+ * (두 기록자가 각자의 seq/위치로 같은 세그먼트를 덮어쓰면 재생이 첫 seq 틈에서 멈춰 이력이 잘린다).
+ */
+public final class EventJournal implements Closeable {
+
+    static final byte T_ORDER_CREATED = 1;
+    static final byte T_ORDER_ITEM_ADDED = 2;
+    static final byte T_ORDER_STATUS_CHANGED = 3;
+    // 4 는 예약: 배포 전에 없앤 일괄 상태 전환 이벤트가 쓰던 코드라 다른 이벤트에 다시 쓰지 않는다
+    static final byte T_STOCK_ADJUSTED = 5;
+    static final byte T_STOCK_SET = 6;
+
+    /** len(4) + type(1) + seq(8) + ts(8) + crc(4) */
+    private static final int OVERHEAD = 4 + 1 + 8 + 8 + 4;
+    private static final int MAX_PAYLOAD = 32;
+    private static final String SUFFIX = ".seg";
+    private static final String LOCK_FILE = "journal.lock";
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final CRC32C crc = new CRC32C();
+    private final FileChannel lockChannel;
+    private final FileLock dirLock;
+
+    private FileChannel channel;
+    private MappedByteBuffer buf;
+    private long segmentFirstSeq;
+    private long nextSeq;
+    /** 활성 세그먼트에서 완전히 기록된 위치. replay 는 여기까지만 읽는다 */
+    private volatile int committedPosition;
+    private volatile boolean closed;
+
+    public EventJournal(Path dir, int segmentBytes) throws IOException {
+        if (segmentBytes < OVERHEAD + MAX_PAYLOAD + 4) {
+            throw new IllegalArgumentException("segmentBytes 가 너무 작습니다: " + segmentBytes);
+        }
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(dir);
+        this.lockChannel = FileChannel.open(dir.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null; // 같은 JVM 의 다른 인스턴스가 잡고 있음
+        }
+        if (acquired == null) {
+            lockChannel.close();
+            throw new IllegalStateException("저널 디렉터리를 다른 프로세스/인스턴스가 사용 중입니다: " + dir.toAbsolutePath());
+        }
+        this.dirLock = acquired;
+        try {
+            List<Path> segments = segments();
+            if (segments.isEmpty()) {
+                openSegment(1);
+                nextSeq = 1;
+            } else {
+                recover(segments.get(segments.size() - 1));
+            }
+        } catch (IOException | RuntimeException e) {
+            dirLock.release();
+            lockChannel.close();
+            throw e;
+        }
+    }
+
+    /** 이벤트 기록 후 부여된 seq 반환 */
+    public long append(JournalEvent event) {
+        int payload = payloadSize(event);
+        int size = OVERHEAD + payload;
+        lock.lock();
+        try {
+            if (closed) throw new IllegalStateException("닫힌 저널입니다: " + dir);
+            // 다음 레코드의 len(0) 자리를 남겨 둔다
+            if (buf.remaining() < size + 4) roll();
+            long seq = nextSeq++;
+            int start = buf.position();
+            buf.position(start + 4);
+            buf.put(typeOf(event));
+            buf.putLong(seq);
+            buf.putLong(event.timestamp());
+            writePayload(buf, event);
+            crc.reset();
+            crc.update(buf.slice(start + 4, size - 8));
+            buf.putInt((int) crc.getValue());
+            buf.putInt(start, size - 8); // len 을 마지막에 써서 레코드를 공개
+            committedPosition = buf.position();
+            return seq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 매핑된 활성 세그먼트를 디스크에 반영 */
+    public void force() {
+        lock.lock();
+        try {
+            if (!closed) buf.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastSeq() {
+        lock.lock();
+        try {
+            return nextSeq - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** fromSeq 이상인 이벤트를 기록 순서대로 전달. 읽기 전용 매핑으로 읽으므로 기록과 동시에 호출해도 된다 */
+    public long replay(long fromSeq, Consumer<JournalEvent> consumer) throws IOException {
+        List<Path> segments = segments();
+        long activeFirst;
+        int activeLimit;
+        lock.lock();
+        try {
+            activeFirst = segmentFirstSeq;
+            activeLimit = committedPosition;
+        } finally {
+            lock.unlock();
+        }
+        long delivered = 0;
+        CRC32C check = new CRC32C();
+        for (int i = 0; i < segments.size(); i++) {
+            long first = firstSeqOf(segments.get(i));
+            if (i + 1 < segments.size() && firstSeqOf(segments.get(i + 1)) <= fromSeq) continue; // 통째로 앞선 세그먼트
+            if (first > activeFirst) break; // 스냅샷 이후 새로 만들어진 세그먼트
+            try (FileChannel ch = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                int limit = first == activeFirst ? activeLimit : (int) ch.size();
+                MappedByteBuffer in = ch.map(FileChannel.MapMode.READ_ONLY, 0, limit);
+                long expected = first;
+                while (in.remaining() >= 4) {
+                    int pos = in.position();
+                    int len = in.getInt(pos);
+                    if (len <= 0 || pos + 8 + len > limit || !valid(in, pos, len, check, expected)) break;
+                    in.position(pos + 4);
+                    byte type = in.get();
+                    long seq = in.getLong();
+                    long ts = in.getLong();
+                    JournalEvent e = readPayload(in, type, ts);
+                    in.position(pos + 8 + len);
+                    expected = seq + 1;
+                    if (seq >= fromSeq) {
+                        consumer.accept(e);
+                        delivered++;
+                    }
+                }
+            }
+        }
+        return delivered;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            buf.force();
+            channel.close();
+            dirLock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== 세그먼트 =====
+
+    private void roll() {
+        buf.force();
+        try {
+            channel.close();
+            openSegment(nextSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 세그먼트 전환 실패: " + dir, e);
+        }
+    }
+
+    private void openSegment(long firstSeq) throws IOException {
+        Path file = dir.resolve(String.format("%020d%s", firstSeq, SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segmentFirstSeq = firstSeq;
+        committedPosition = 0;
+    }
+
+    /** 마지막 세그먼트에서 유효한 마지막 레코드를 찾아 이어 쓸 위치를 정하고, 그 뒤의 찢어진 레코드는 지운다 */
+    private void recover(Path last) throws IOException {
+        long first = firstSeqOf(last);
+        openSegment(first);
+        CRC32C check = new CRC32C();
+        long expected = first;
+        int pos = 0;
+        while (pos + 4 <= segmentBytes) {
+            int len = buf.getInt(pos);
+            if (len <= 0 || pos + 8 + len > segmentBytes || !valid(buf, pos, len, check, expected)) break;
+            expected++;
+            pos += 8 + len;
+        }
+        int end = Math.min(segmentBytes, pos + OVERHEAD + MAX_PAYLOAD);
+        for (int i = pos; i < end; i++) buf.put(i, (byte) 0);
+        buf.position(pos);
+        committedPosition = pos;
+        nextSeq = expected;
+    }
+
+    private static boolean valid(ByteBuffer b, int pos, int len, CRC32C check, long expectedSeq) {
+        if (b.getLong(pos + 5) != expectedSeq) return false;
+        check.reset();
+        check.update(b.slice(pos + 4, len));
+        return b.getInt(pos + 4 + len) == (int) check.getValue();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> s = Files.list(dir)) {
+            return new ArrayList<>(s.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).sorted().toList());
+        }
+    }
+
+    private static long firstSeqOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    // ===== 인코딩 (payload 는 타입별 고정 길이) =====
+
+    private static byte typeOf(JournalEvent e) {
+        return switch (e) {
+            case JournalEvent.OrderCreated x -> T_ORDER_CREATED;
+            case JournalEvent.OrderItemAdded x -> T_ORDER_ITEM_ADDED;
+            case JournalEvent.OrderStatusChanged x -> T_ORDER_STATUS_CHANGED;
+            case JournalEvent.StockAdjusted x -> T_STOCK_ADJUSTED;
+            case JournalEvent.StockSet x -> T_STOCK_SET;
+        };
+    }
+
+    private static int payloadSize(JournalEvent e) {
+        return switch (e) {
+            case JournalEvent.OrderCreated x -> 32;
+            case JournalEvent.OrderItemAdded x -> 28;
+            case JournalEvent.OrderStatusChanged x -> 10;
+            case JournalEvent.StockAdjusted x -> 17;
+            case JournalEvent.StockSet x -> 12;
+        };
+    }
+
+    private static void writePayload(ByteBuffer b, JournalEvent e) {
+        switch (e) {
+            case JournalEvent.OrderCreated x -> b.putLong(x.orderId()).putLong(x.userId()).putLong(x.paidAtMillis()).putLong(x.totalCents());
+            case JournalEvent.OrderItemAdded x -> b.putLong(x.orderId()).putLong(x.productId()).putInt(x.quantity()).putLong(x.unitPriceCents());
+            case JournalEvent.OrderStatusChanged x -> b.putLong(x.orderId()).put(x.from()).put(x.to());
+            case JournalEvent.StockAdjusted x -> b.putLong(x.productId()).putInt(x.delta()).putInt(x.stockAfter()).put(x.reason());
+            case JournalEvent.StockSet x -> b.putLong(x.productId()).putInt(x.quantity());
+        }
+    }
+
+    private static JournalEvent readPayload(ByteBuffer b, byte type, long ts) {
+        return switch (type) {
+            case T_ORDER_CREATED -> new JournalEvent.OrderCreated(ts, b.getLong(), b.getLong(), b.getLong(), b.getLong());
+            case T_ORDER_ITEM_ADDED -> new JournalEvent.OrderItemAdded(ts, b.getLong(), b.getLong(), b.getInt(), b.getLong());
+            case T_ORDER_STATUS_CHANGED -> new JournalEvent.OrderStatusChanged(ts, b.getLong(), b.get(), b.get());
+            case T_STOCK_ADJUSTED -> new JournalEvent.StockAdjusted(ts, b.getLong(), b.getInt(), b.getInt(), b.get());
+            case T_STOCK_SET -> new JournalEvent.StockSet(ts, b.getLong(), b.getInt());
+            default -> throw new IllegalStateException("알 수 없는 저널 이벤트 타입: " + type);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.ijin.hanaro.journal;
+
+/**
+ * 저널에 기록되는 비즈니스 이벤트. 모든 이벤트는 발생 시각(epoch millis)을 가진다.
+ * 금액은 원 단위 소수 2자리 고정(BigDecimal scale 2)의 unscaled 값(cents)으로 저장한다.
+ * 타입 코드와 필드 순서는 디스크 포맷이므로 바꾸지 말고, 새 이벤트는 새 코드로 추가한다.
+ */
+public sealed interface JournalEvent {
+
+    long timestamp();
+
+    /** 주문 생성 (상태 ORDERED) */
+    record OrderCreated(long timestamp, long orderId, long userId, long paidAtMillis, long totalCents) implements JournalEvent {}
+
+    /** 주문 상품 1줄 */
+    record OrderItemAdded(long timestamp, long orderId, long productId, int quantity, long unitPriceCents) implements JournalEvent {}
+
+    /** 단건 상태 전환 */
+    record OrderStatusChanged(long timestamp, long orderId, byte from, byte to) implements JournalEvent {}
+
+    /** 재고 증감. stockAfter 를 모르면 UNKNOWN */
+    record StockAdjusted(long timestamp, long productId, int delta, int stockAfter, byte reason) implements JournalEvent {
+        public static final int UNKNOWN = Integer.MIN_VALUE;
+        public static final byte REASON_ORDER = 1;
+        public static final byte REASON_ADMIN = 2;
+    }
+
+    /** 재고 절대값 설정 (상품 생성/수정) */
+    record StockSet(long timestamp, long productId, int quantity) implements JournalEvent {}
+}
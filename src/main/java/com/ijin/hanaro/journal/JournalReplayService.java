@@ -0,0 +1,123 @@
+package com.ijin.hanaro.journal;
+
+import com.ijin.hanaro.journal.dto.JournalSalesResponse;
+import com.ijin.hanaro.journal.dto.StockHistoryResponse;
+import com.ijin.hanaro.order.OrderStatus;
+import com.ijin.hanaro.stats.dto.DailyProductSalesResponse;
+import com.ijin.hanaro.stats.dto.DailySalesResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트 저널 재생. MySQL 을 전혀 조회하지 않고 저널만으로 매출 통계/재고 이력을 다시 만든다.
+ * 매출은 StatsBatch 전체 모드와 같은 규칙(결제일 기준, DELIVERED 주문만, 주문상품 없는 주문은 상품별에서 제외)으로 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class JournalReplayService {
+
+    private static final byte DELIVERED = (byte) OrderStatus.DELIVERED.ordinal();
+
+    private final BusinessEventJournal journal;
+
+    /** 재생 중 주문 상태 */
+    private static final class OrderState {
+        final long paidAtMillis;
+        final List<JournalEvent.OrderItemAdded> items = new ArrayList<>(2);
+        byte status = (byte) OrderStatus.ORDERED.ordinal();
+
+        OrderState(long paidAtMillis) {
+            this.paidAtMillis = paidAtMillis;
+        }
+    }
+
+    public JournalSalesResponse dailySales(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("잘못된 기간입니다: " + from + " ~ " + to);
+        }
+        long t0 = System.nanoTime();
+        Map<Long, OrderState> orders = new HashMap<>();
+
+        long scanned = replay(e -> {
+            switch (e) {
+                case JournalEvent.OrderCreated c -> {
+                    orders.put(c.orderId(), new OrderState(c.paidAtMillis()));
+                }
+                case JournalEvent.OrderItemAdded i -> {
+                    OrderState s = orders.get(i.orderId());
+                    if (s != null) s.items.add(i);
+                }
+                case JournalEvent.OrderStatusChanged c -> {
+                    OrderState s = orders.get(c.orderId());
+                    if (s != null && s.status == c.from()) s.status = c.to();
+                }
+                default -> { }
+            }
+        });
+
+        TreeMap<LocalDate, long[]> daily = new TreeMap<>();           // [orders, items, cents]
+        TreeMap<LocalDate, Map<Long, long[]>> products = new TreeMap<>(); // [qty, cents]
+        for (OrderState s : orders.values()) {
+            if (s.status != DELIVERED) continue;
+            LocalDate date = BusinessEventJournal.toLocalDateTime(s.paidAtMillis).toLocalDate();
+            if (date.isBefore(from) || date.isAfter(to)) continue;
+            long[] d = daily.computeIfAbsent(date, k -> new long[3]);
+            d[0]++;
+            Map<Long, long[]> perProduct = products.computeIfAbsent(date, k -> new TreeMap<>());
+            for (JournalEvent.OrderItemAdded i : s.items) {
+                long cents = i.unitPriceCents() * i.quantity();
+                d[1] += i.quantity();
+                d[2] += cents;
+                long[] p = perProduct.computeIfAbsent(i.productId(), k -> new long[2]);
+                p[0] += i.quantity();
+                p[1] += cents;
+            }
+        }
+
+        List<DailySalesResponse> dailyRows = new ArrayList<>(daily.size());
+        daily.forEach((date, d) -> dailyRows.add(
+                new DailySalesResponse(date, (int) d[0], (int) d[1], BusinessEventJournal.amount(d[2]))));
+        List<DailyProductSalesResponse> productRows = new ArrayList<>();
+        products.forEach((date, m) -> m.forEach((productId, p) -> productRows.add(
+                new DailyProductSalesResponse(date, productId, (int) p[0], BusinessEventJournal.amount(p[1])))));
+        return new JournalSalesResponse(dailyRows, productRows, scanned, (System.nanoTime() - t0) / 1_000_000);
+    }
+
+    public StockHistoryResponse stockHistory(Long productId) {
+        List<StockHistoryResponse.Entry> history = new ArrayList<>();
+        Integer[] stock = {null};
+        long scanned = replay(e -> {
+            switch (e) {
+                case JournalEvent.StockSet s when s.productId() == productId -> {
+                    stock[0] = s.quantity();
+                    history.add(new StockHistoryResponse.Entry(
+                            BusinessEventJournal.toLocalDateTime(s.timestamp()), "SET", null, s.quantity()));
+                }
+                case JournalEvent.StockAdjusted a when a.productId() == productId -> {
+                    // 주문 차감은 차감 후 재고를 기록하지 않으므로 직전 값에서 계산한다
+                    if (a.stockAfter() != JournalEvent.StockAdjusted.UNKNOWN) stock[0] = a.stockAfter();
+                    else if (stock[0] != null) stock[0] = stock[0] + a.delta();
+                    String type = a.reason() == JournalEvent.StockAdjusted.REASON_ORDER ? "ORDER" : "ADMIN";
+                    history.add(new StockHistoryResponse.Entry(
+                            BusinessEventJournal.toLocalDateTime(a.timestamp()), type, a.delta(), stock[0]));
+                }
+                default -> { }
+            }
+        });
+        return new StockHistoryResponse(productId, stock[0], scanned, history);
+    }
+
+    private long replay(Consumer<JournalEvent> consumer) {
+        try {
+            return journal.replay(consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 저널 읽기 실패", e);
+        }
+    }
+}
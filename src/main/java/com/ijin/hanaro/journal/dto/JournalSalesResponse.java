@@ -0,0 +1,12 @@
+package com.ijin.hanaro.journal.dto;
+
+import com.ijin.hanaro.stats.dto.DailyProductSalesResponse;
+import com.ijin.hanaro.stats.dto.DailySalesResponse;
+
+import java.util.List;
+
+/** 저널 재생으로 다시 계산한 daily_sales / daily_product_sales */
+public record JournalSalesResponse(List<DailySalesResponse> daily,
+                                   List<DailyProductSalesResponse> products,
+                                   long eventsScanned,
+                                   long tookMs) {}
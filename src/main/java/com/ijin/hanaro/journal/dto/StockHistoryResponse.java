@@ -0,0 +1,11 @@
+package com.ijin.hanaro.journal.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** stock: 저널만으로 알 수 있는 마지막 재고 (재고 설정/조정 후 값이 한 번도 없었으면 null) */
+public record StockHistoryResponse(Long productId, Integer stock, long eventsScanned, List<Entry> history) {
+
+    /** type: SET(생성/수정 시 절대값), ORDER(주문 차감), ADMIN(관리자 조정). stockAfter 를 알 수 없으면 null */
+    public record Entry(LocalDateTime at, String type, Integer delta, Integer stockAfter) {}
+}
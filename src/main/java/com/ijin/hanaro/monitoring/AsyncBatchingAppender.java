@@ -0,0 +1,150 @@
+package com.ijin.hanaro.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비즈니스 로그(business.order / business.product) 전용 비동기 배치 appender.
+ * - 요청 스레드는 고정 크기 큐에 offer 만 하고 바로 돌아간다 (디스크 I/O 없음).
+ * - 전용 스레드가 최대 batchSize 건씩 꺼내 하위 appender 에 쓰고, 배치마다 한 번만 flush 한다
+ *   (하위 파일 appender 는 immediateFlush=false 로 둔다).
+ * - 큐가 가득 차면: INFO 이하는 즉시 버리고(dropped 증가), WARN 이상은 maxBlockMs 까지만 기다린 뒤 버린다.
+ * 큐 길이/버린 건수는 BusinessLogMetrics 가 Micrometer 로 노출한다.
+ */
+public class AsyncBatchingAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final Map<String, AsyncBatchingAppender> INSTANCES = new ConcurrentHashMap<>();
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private int queueSize = 8192;
+    private int batchSize = 256;
+    private long flushIntervalMs = 200;
+    private long maxBlockMs = 50;
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    // ===== logback 설정 프로퍼티 =====
+    public void setQueueSize(int queueSize) { this.queueSize = queueSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+    public void setFlushIntervalMs(long flushIntervalMs) { this.flushIntervalMs = flushIntervalMs; }
+    public void setMaxBlockMs(long maxBlockMs) { this.maxBlockMs = maxBlockMs; }
+
+    /** 현재 설정된 appender 이름으로 조회 (logback 재설정 시 인스턴스가 바뀌므로 이름으로 찾는다) */
+    public static AsyncBatchingAppender byName(String name) { return INSTANCES.get(name); }
+    public static Iterable<String> names() { return INSTANCES.keySet(); }
+
+    public int queueDepth() { return queue == null ? 0 : queue.size(); }
+    public long droppedCount() { return dropped.sum(); }
+
+    @Override
+    public void start() {
+        if (isStarted()) return;
+        if (queueSize < 1 || batchSize < 1) {
+            addError("queueSize/batchSize 는 1 이상이어야 합니다");
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        running = true;
+        worker = new Thread(this::drainLoop, "business-log-" + getName());
+        worker.setDaemon(true);
+        worker.start();
+        super.start();
+        INSTANCES.put(getName(), this);
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) return;
+        super.stop();
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        appenders.detachAndStopAllAppenders();
+        INSTANCES.remove(getName(), this);
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        if (queue.offer(event)) return;
+        if (event.getLevel().isGreaterOrEqual(Level.WARN) && maxBlockMs > 0) {
+            try {
+                if (queue.offer(event, maxBlockMs, TimeUnit.MILLISECONDS)) return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        dropped.increment();
+    }
+
+    private void drainLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ILoggingEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // stop(): 남은 이벤트를 모두 쓰고 종료
+                running = false;
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.isEmpty()) continue;
+            for (ILoggingEvent e : batch) {
+                appenders.appendLoopOnAppenders(e);
+            }
+            batch.clear();
+            flushAll();
+        }
+    }
+
+    private void flushAll() {
+        Iterator<Appender<ILoggingEvent>> it = appenders.iteratorForAppenders();
+        while (it.hasNext()) {
+            if (it.next() instanceof OutputStreamAppender<ILoggingEvent> osa) {
+                OutputStream out = osa.getOutputStream();
+                if (out == null) continue;
+                try {
+                    out.flush();
+                } catch (IOException e) {
+                    addError("flush 실패: " + osa.getName(), e);
+                }
+            }
+        }
+    }
+
+    // ===== AppenderAttachable =====
+    @Override public void addAppender(Appender<ILoggingEvent> newAppender) { appenders.addAppender(newAppender); }
+    @Override public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() { return appenders.iteratorForAppenders(); }
+    @Override public Appender<ILoggingEvent> getAppender(String name) { return appenders.getAppender(name); }
+    @Override public boolean isAttached(Appender<ILoggingEvent> appender) { return appenders.isAttached(appender); }
+    @Override public void detachAndStopAllAppenders() { appenders.detachAndStopAllAppenders(); }
+    @Override public boolean detachAppender(Appender<ILoggingEvent> appender) { return appenders.detachAppender(appender); }
+    @Override public boolean detachAppender(String name) { return appenders.detachAppender(name); }
+}
@@ -0,0 +1,30 @@
+package com.ijin.hanaro.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/** 비즈니스 로그 비동기 파이프라인(AsyncBatchingAppender) 지표: 큐 길이, 버린 이벤트 수 */
+@Component
+public class BusinessLogMetrics {
+
+    public BusinessLogMetrics(MeterRegistry meterRegistry) {
+        for (String name : AsyncBatchingAppender.names()) {
+            Gauge.builder("business.log.queue.depth", () -> {
+                        AsyncBatchingAppender a = AsyncBatchingAppender.byName(name);
+                        return a == null ? 0 : a.queueDepth();
+                    })
+                    .description("비즈니스 로그 큐에 쌓인 이벤트 수")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder("business.log.dropped", name, n -> {
+                        AsyncBatchingAppender a = AsyncBatchingAppender.byName(n);
+                        return a == null ? 0 : a.droppedCount();
+                    })
+                    .description("큐 초과로 버린 비즈니스 로그 이벤트 수")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ijin.hanaro.monitoring;
+
+/**
+ * 현재 스레드에서 준비(prepare)된 JDBC 문장 수를 센다.
+ * start() ~ stop() 구간에서만 집계되며, 실제 증가는 StatementCountingDataSourcePostProcessor 가 감싼 커넥션이 수행한다.
+ * 그 후처리기가 꺼져 있으면 enabled() 가 false 이고 stop() 은 항상 0.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+    private static volatile boolean enabled;
+
+    private StatementCounter() {}
+
+    static void enable() {
+        enabled = true;
+    }
+
+    /** 커넥션이 감싸져 있어 실제로 셀 수 있는지 */
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    public static void start() {
+        if (enabled) COUNT.set(new int[1]);
+    }
+
+    /** 집계를 끝내고 지금까지의 문장 수를 반환 */
+    public static int stop() {
+        int[] c = COUNT.get();
+        COUNT.remove();
+        return c == null ? 0 : c[0];
+    }
+
+    static void increment() {
+        int[] c = COUNT.get();
+        if (c != null) c[0]++;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ijin.hanaro.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource 를 감싸 커넥션에서 문장을 준비할 때마다 StatementCounter 를 증가시킨다.
+ * JPA/JdbcTemplate 구분 없이 같은 커넥션 경로를 타므로 요청 단위 round trip 수를 확인할 수 있다.
+ * 모든 커넥션 호출이 리플렉션 프록시를 거치므로 기본은 꺼져 있다 (app.monitoring.statementCounting.enabled, 테스트 프로파일에서 켬).
+ */
+@Component
+@ConditionalOnProperty(name = "app.monitoring.statementCounting.enabled", havingValue = "true")
+public class StatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    public StatementCountingDataSourcePostProcessor() {
+        StatementCounter.enable();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource ds && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource(ds);
+        }
+        return bean;
+    }
+
+    static class CountingDataSource extends DelegatingDataSource {
+        CountingDataSource(DataSource target) { super(target); }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection target) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("prepare") || name.equals("createStatement")) {
+                            StatementCounter.increment();
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
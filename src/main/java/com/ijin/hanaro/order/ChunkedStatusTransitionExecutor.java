@@ -0,0 +1,141 @@
+package com.ijin.hanaro.order;
+
+import com.ijin.hanaro.journal.BusinessEventJournal;
+import com.ijin.hanaro.journal.JournalEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조건 일괄 전환(status = from AND status_updated_at <= threshold → to)을 작은 묶음으로 나눠 실행한다.
+ * 한 번의 UPDATE 로 수백만 행을 잠그면 그동안 주문 생성 INSERT 가 막히므로,
+ * (status, status_updated_at) 인덱스로 대상 id 를 chunkSize 개씩 잠금 없이 읽고, 묶음마다 짧은 트랜잭션 하나에서
+ * 그 id 중 아직 조건에 맞는 행만 잠가(FOR UPDATE) 전환한 뒤 pauseMs 쉬었다가 다음 묶음으로 간다.
+ * 실제로 옮긴 id 마다 OrderStatusChanged 를 저널에 남기므로(커밋 뒤 기록), 중간 묶음에서 멈춰도 이미 커밋된 묶음은 저널과 DB 가 일치한다.
+ * 전환된 행은 status 가 바뀌어 다음 조회에서 빠지므로 커서 없이 처음부터 다시 읽으면 된다.
+ * 실행마다 옮긴 행 수와 잠금 시간(각 묶음 트랜잭션 시간의 합)을 기록한다.
+ * beforeChunk 는 묶음 트랜잭션 안에서 UPDATE 전에 불린다 (스케줄러 리더 확인 등, 예외를 던지면 그 묶음은 롤백되고 거기서 멈춤).
+ * Fence.check() 의 임대 행 공유 잠금이 묶음 커밋까지 유지되므로, 확인과 UPDATE 사이에 다른 노드가 인수할 수 없다.
+ */
+@Component
+public class ChunkedStatusTransitionExecutor {
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final BusinessEventJournal journal;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final long pauseMs;
+
+    public ChunkedStatusTransitionExecutor(JdbcTemplate jdbc,
+                                           PlatformTransactionManager txManager,
+                                           BusinessEventJournal journal,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${app.order.aging.sweepChunkSize:500}") int chunkSize,
+                                           @Value("${app.order.aging.sweepPauseMs:50}") long pauseMs) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.journal = journal;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMs = pauseMs;
+    }
+
+    /** 스윕 기준 시각 계산용 DB 현재 시각 (status_updated_at 과 같은 시계) */
+    public LocalDateTime dbNow() {
+        return jdbc.queryForObject("SELECT NOW(6)", LocalDateTime.class);
+    }
+
+    /** 전환한 행 수를 반환. 중간에 인터럽트되면 거기까지 옮긴 수를 반환한다 */
+    public int run(OrderStatus from, OrderStatus to, LocalDateTime threshold) {
+        return run(from, to, threshold, () -> {});
+    }
+
+    public int run(OrderStatus from, OrderStatus to, LocalDateTime threshold, Runnable beforeChunk) {
+        String transition = from + "->" + to;
+        Timer chunkLock = Timer.builder("order.status.sweep.chunk.lock.time")
+                .description("묶음 1개 트랜잭션(행 잠금 유지) 시간")
+                .tag("transition", transition)
+                .register(meterRegistry);
+        Timestamp limit = Timestamp.valueOf(threshold);
+        int moved = 0;
+        long lockNanos = 0;
+        while (true) {
+            List<Long> ids = jdbc.queryForList("""
+                SELECT id FROM orders
+                 WHERE status = ? AND status_updated_at <= ?
+                 ORDER BY status_updated_at
+                 LIMIT ?
+            """, Long.class, from.name(), limit, chunkSize);
+            if (ids.isEmpty()) break;
+
+            long t0 = System.nanoTime();
+            int n = tx.execute(st -> {
+                beforeChunk.run();
+                return transitionChunk(from, to, ids, limit);
+            });
+            long elapsed = System.nanoTime() - t0;
+            chunkLock.record(elapsed, TimeUnit.NANOSECONDS);
+            lockNanos += elapsed;
+            moved += n;
+
+            if (ids.size() < chunkSize || n == 0) break;
+            if (pauseMs > 0) {
+                try {
+                    Thread.sleep(pauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        DistributionSummary.builder("order.status.sweep.rows")
+                .description("실행 1회에 전환한 주문 수")
+                .tag("transition", transition)
+                .register(meterRegistry)
+                .record(moved);
+        Timer.builder("order.status.sweep.lock.time")
+                .description("실행 1회의 잠금 시간 합계 (묶음 트랜잭션 시간의 합)")
+                .tag("transition", transition)
+                .register(meterRegistry)
+                .record(lockNanos, TimeUnit.NANOSECONDS);
+        return moved;
+    }
+
+    /** 읽은 뒤 바뀐 행(취소 등)은 잠근 상태로 조건을 다시 확인해 건드리지 않는다. 옮긴 행 수를 반환 */
+    private int transitionChunk(OrderStatus from, OrderStatus to, List<Long> ids, Timestamp limit) {
+        String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.addAll(ids);
+        args.add(from.name());
+        args.add(limit);
+        List<Long> due = jdbc.queryForList("SELECT id FROM orders WHERE id IN (" + in
+                + ") AND status = ? AND status_updated_at <= ? FOR UPDATE", Long.class, args.toArray());
+        if (due.isEmpty()) return 0;
+
+        List<Object> updateArgs = new ArrayList<>(due.size() + 1);
+        updateArgs.add(to.name());
+        updateArgs.addAll(due);
+        // status_updated_at 은 DB 시각으로 (증분 매출 집계의 워터마크가 DB NOW(6) 기준이므로 같은 시계를 쓴다)
+        jdbc.update("UPDATE orders SET status = ?, status_updated_at = NOW(6) WHERE id IN ("
+                + String.join(",", Collections.nCopies(due.size(), "?")) + ")", updateArgs.toArray());
+        long ts = System.currentTimeMillis();
+        for (Long id : due) {
+            journal.record(new JournalEvent.OrderStatusChanged(ts, id, (byte) from.ordinal(), (byte) to.ordinal()));
+        }
+        return due.size();
+    }
+}
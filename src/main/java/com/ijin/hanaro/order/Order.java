@@ -10,7 +10,11 @@ import java.util.*;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+        indexes = {
+                @Index(name = "idx_orders_user_id_id", columnList = "user_id, id"),                         // 내 주문 keyset 페이지네이션
+                @Index(name = "idx_orders_status_updated_at", columnList = "status, status_updated_at")     // 상태 전환 스윕/타이머 복구
+        })
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,7 +1,6 @@
 package com.ijin.hanaro.order;
 
 import com.ijin.hanaro.order.dto.*;
-import com.ijin.hanaro.user.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +8,6 @@ import org.springframework.data.domain.*;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-import java.util.*;
-import java.util.stream.Collectors;
 import java.time.LocalDate;
 
 @RestController
@@ -18,8 +15,6 @@ import java.time.LocalDate;
 public class OrderController {
 
     private final OrderService service;
-    private final UserRepository userRepo;
-    private final OrderItemRepository orderItemRepository;
 
     @Operation(summary = "장바구니 기반 주문 생성", description = "장바구니 전체를 주문으로 생성하고, 성공 시 장바구니를 비웁니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
@@ -41,19 +36,23 @@ public class OrderController {
         return service.myOrders(username, pageable);
     }
 
+    @Operation(summary = "내 주문 목록 (커서 기반)",
+            description = "id DESC 정렬 keyset 페이지네이션. 첫 요청은 cursor 없이, 이후 응답의 nextCursor 를 cursor 로 전달. 전체 건수는 제공하지 않음. size 는 1~100 으로 맞춤",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/orders/me/scroll")
+    public CursorPage<OrderListItemResponse> myOrdersScroll(
+            Authentication auth,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return service.myOrdersScroll(auth.getName(), cursor, size);
+    }
+
     @Operation(summary = "주문 상세 (본인 주문만)", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/orders/{id}")
     public OrderDetailResponse detail(Authentication auth, @PathVariable Long id) {
-        String username = auth.getName();
-        Long myId = userRepo.findIdByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        OrderDetailResponse res = service.getDetail(id);
-
-        // 소유 검증 (간단 검증을 위해 서비스에서 읽은 뒤 비교)
-        // 실무면 쿼리에서 userId 조건으로 조인해 바로 검증하는 방식 권장
-        // 여기선 DTO에 userId가 없으니 리포지토리로 한번 더 체크해도 됨.
-        // 간단하게는 목록 통해 접근한다고 가정하고 넘어갈 수도 있음.
-        return res;
+        // 소유 검증은 조회 쿼리의 username 조건으로 (남의 주문이면 없는 주문과 같은 응답)
+        return service.getDetail(id, auth.getName());
     }
 
 
@@ -84,42 +83,22 @@ public class OrderController {
     ) {
         var cond = new OrderAdminSearch(status, orderNoLike, usernameLike, fromDate, toDate);
         var pageReq = PageRequest.of(page, size, Sort.by("id").descending());
-        var ordersPage = service.adminSearch(cond, pageReq);
-
-        // 1) 현재 페이지의 주문 IDs 수집
-        List<Long> orderIds = ordersPage.getContent().stream()
-                .map(Order::getId)
-                .toList();
-
-        // 2) 아이템 일괄 조회 후 orderId 기준 그룹핑 (N+1 회피)
-        Map<Long, List<OrderItemResponse>> itemsByOrderId;
-        if (orderIds.isEmpty()) {
-            itemsByOrderId = Collections.emptyMap();
-        } else {
-            var items = orderItemRepository.findByOrder_IdIn(orderIds);
-            itemsByOrderId = items.stream()
-                    .collect(Collectors.groupingBy(
-                            it -> it.getOrder().getId(),
-                            Collectors.mapping(it -> new OrderItemResponse(
-                                    it.getId(),
-                                    it.getProduct().getId(),
-                                    it.getProductName(),
-                                    it.getUnitPrice(),
-                                    it.getQuantity(),
-                                    it.getUnitPrice().multiply(new java.math.BigDecimal(it.getQuantity()))
-                            ), Collectors.toList())
-                    ));
-        }
+        return service.adminSearch(cond, pageReq);
+    }
 
-        // 3) 페이지 매핑 (userId, items 포함)
-        return ordersPage.map(o -> new AdminOrderListItemResponse(
-                o.getId(),
-                o.getOrderNo(),
-                o.getStatus(),
-                o.getTotalPrice(),
-                o.getCreatedAt(),
-                o.getUser().getId(),
-                itemsByOrderId.getOrDefault(o.getId(), List.of())
-        ));
+    @Operation(summary = "주문 목록/검색(관리자, 커서 기반)",
+            description = "검색 파라미터는 /admin/orders 와 동일. page 대신 cursor(이전 응답의 nextCursor)를 사용하며 count 쿼리를 생략. size 는 1~100 으로 맞춤")
+    @GetMapping("/admin/orders/scroll")
+    public CursorPage<AdminOrderListItemResponse> searchScroll(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String orderNoLike,
+            @RequestParam(required = false) String usernameLike,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        var cond = new OrderAdminSearch(status, orderNoLike, usernameLike, fromDate, toDate);
+        return service.adminSearchScroll(cond, cursor, size);
     }
 }
\ No newline at end of file
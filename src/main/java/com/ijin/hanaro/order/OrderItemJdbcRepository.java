@@ -0,0 +1,33 @@
+package com.ijin.hanaro.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderItemJdbcRepository {
+
+    private final JdbcTemplate jdbc;
+
+    /**
+     * 주문 아이템 일괄 INSERT (JDBC batch).
+     * IDENTITY 키 전략에서는 Hibernate insert batching 이 꺼지므로 JdbcTemplate 으로 직접 묶어 보낸다.
+     * (rewriteBatchedStatements=true 이면 multi-row INSERT 1회로 전송)
+     */
+    public void batchInsert(Long orderId, List<OrderItem> items) {
+        if (items.isEmpty()) return;
+        jdbc.batchUpdate("""
+            INSERT INTO order_items (order_id, product_id, product_name, unit_price, quantity)
+            VALUES (?, ?, ?, ?, ?)
+        """, items, items.size(), (ps, it) -> {
+            ps.setLong(1, orderId);
+            ps.setLong(2, it.getProduct().getId());
+            ps.setString(3, it.getProductName());
+            ps.setBigDecimal(4, it.getUnitPrice());
+            ps.setInt(5, it.getQuantity());
+        });
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+    // OrderRepository.findByUser_IdOrderByIdDesc 와 함께 OrderReadModelBenchmarkTest 의 비교 기준(예전 방식)에만 쓴다
     List<OrderItem> findByOrder_IdIn(List<Long> orderIds);
 
 }
\ No newline at end of file
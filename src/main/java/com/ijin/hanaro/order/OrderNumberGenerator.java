@@ -0,0 +1,6 @@
+package com.ijin.hanaro.order;
+
+/** 주문번호(orders.order_no) 발급기. 구현체는 노드 내에서 유일하고 단조 증가하는 값을 반환해야 한다. */
+public interface OrderNumberGenerator {
+    String next();
+}
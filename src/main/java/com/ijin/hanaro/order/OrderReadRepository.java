@@ -0,0 +1,167 @@
+package com.ijin.hanaro.order;
+
+import com.ijin.hanaro.order.dto.AdminOrderListItemResponse;
+import com.ijin.hanaro.order.dto.OrderAdminSearch;
+import com.ijin.hanaro.order.dto.OrderItemResponse;
+import com.ijin.hanaro.order.dto.OrderListItemResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 주문 목록 읽기 전용 조회 (JdbcTemplate).
+ * 주문 한 페이지를 파생 테이블로 자르고 order_items 를 LEFT JOIN 한 평면 행을 id DESC, item id ASC 순으로 읽으면서
+ * 주문이 바뀔 때마다 응답 레코드를 만든다. 엔티티/프록시를 만들지 않으므로 영속성 컨텍스트와 dirty checking 을 거치지 않는다.
+ * 정렬은 항상 id DESC (컨트롤러의 기본 정렬과 동일).
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderReadRepository {
+
+    private static final String ITEM_JOIN = """
+            SELECT o.id, o.order_no, o.status, o.total_price, o.created_at, o.user_id,
+                   i.id AS item_id, i.product_id, i.product_name, i.unit_price, i.quantity
+              FROM (%s) o
+              LEFT JOIN order_items i ON i.order_id = o.id
+             ORDER BY o.id DESC, i.id
+            """;
+    private static final String ORDER_COLUMNS = "o.id, o.order_no, o.status, o.total_price, o.created_at, o.user_id";
+
+    private final JdbcTemplate jdbc;
+
+    /** 내 주문 offset 페이지 (+ 필요할 때만 count) */
+    public Page<OrderListItemResponse> findMyOrders(Long userId, Pageable pageable) {
+        String page = "SELECT " + ORDER_COLUMNS + " FROM orders o WHERE o.user_id = ? ORDER BY o.id DESC LIMIT ? OFFSET ?";
+        List<OrderListItemResponse> content = query(page, OrderReadRepository::toListItem,
+                userId, pageable.getPageSize(), pageable.getOffset());
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbc.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ?", Long.class, userId));
+    }
+
+    /** 내 주문 keyset: id < idBefore 중 최신 limit 건 */
+    public List<OrderListItemResponse> findMyOrdersBefore(Long userId, long idBefore, int limit) {
+        String page = "SELECT " + ORDER_COLUMNS + " FROM orders o WHERE o.user_id = ? AND o.id < ? ORDER BY o.id DESC LIMIT ?";
+        return query(page, OrderReadRepository::toListItem, userId, idBefore, limit);
+    }
+
+    /** 관리자 검색 offset 페이지 (+ 필요할 때만 count) */
+    public Page<AdminOrderListItemResponse> search(OrderAdminSearch cond, Pageable pageable) {
+        Where where = where(cond, null);
+        List<Object> args = new ArrayList<>(where.args());
+        args.add(pageable.getPageSize());
+        args.add(pageable.getOffset());
+        String page = "SELECT " + ORDER_COLUMNS + " FROM orders o" + where.sql() + " ORDER BY o.id DESC LIMIT ? OFFSET ?";
+        List<AdminOrderListItemResponse> content = query(page, OrderReadRepository::toAdminItem, args.toArray());
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbc.queryForObject("SELECT COUNT(*) FROM orders o" + where.sql(), Long.class, where.args().toArray()));
+    }
+
+    /** 관리자 검색 keyset: idBefore 가 null 이면 첫 페이지 */
+    public List<AdminOrderListItemResponse> searchBefore(OrderAdminSearch cond, Long idBefore, int limit) {
+        Where where = where(cond, idBefore);
+        List<Object> args = new ArrayList<>(where.args());
+        args.add(limit);
+        String page = "SELECT " + ORDER_COLUMNS + " FROM orders o" + where.sql() + " ORDER BY o.id DESC LIMIT ?";
+        return query(page, OrderReadRepository::toAdminItem, args.toArray());
+    }
+
+    /** 평면 행(주문 × 아이템)을 주문 단위로 묶는다. 행은 주문 id 로 정렬되어 있으므로 한 번 훑으면 된다 */
+    private <T> List<T> query(String pageSql, BiFunction<Head, List<OrderItemResponse>, T> assemble, Object... args) {
+        List<T> result = new ArrayList<>();
+        jdbc.query(ITEM_JOIN.formatted(pageSql), rs -> {
+            Head head = null;
+            List<OrderItemResponse> items = null;
+            while (rs.next()) {
+                long id = rs.getLong("id");
+                if (head == null || head.id() != id) {
+                    if (head != null) result.add(assemble.apply(head, items));
+                    head = head(rs, id);
+                    items = new ArrayList<>(4);
+                }
+                long itemId = rs.getLong("item_id");
+                if (!rs.wasNull()) items.add(item(rs, itemId));
+            }
+            if (head != null) result.add(assemble.apply(head, items));
+            return null;
+        }, args);
+        return result;
+    }
+
+    private static Head head(ResultSet rs, long id) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new Head(id,
+                rs.getString("order_no"),
+                OrderStatus.valueOf(rs.getString("status")),
+                rs.getBigDecimal("total_price"),
+                createdAt == null ? null : createdAt.toLocalDateTime(),
+                rs.getLong("user_id"));
+    }
+
+    private static OrderItemResponse item(ResultSet rs, long itemId) throws SQLException {
+        BigDecimal unitPrice = rs.getBigDecimal("unit_price");
+        int quantity = rs.getInt("quantity");
+        return new OrderItemResponse(itemId, rs.getLong("product_id"), rs.getString("product_name"),
+                unitPrice, quantity, unitPrice.multiply(BigDecimal.valueOf(quantity)));
+    }
+
+    private static OrderListItemResponse toListItem(Head h, List<OrderItemResponse> items) {
+        return new OrderListItemResponse(h.id(), h.orderNo(), h.status(), h.totalPrice(), h.createdAt(), items);
+    }
+
+    private static AdminOrderListItemResponse toAdminItem(Head h, List<OrderItemResponse> items) {
+        return new AdminOrderListItemResponse(h.id(), h.orderNo(), h.status(), h.totalPrice(), h.createdAt(), h.userId(), items);
+    }
+
+    /** 관리자 검색 조건 (부분일치는 대소문자 무시, 기간은 from 00:00 이상 ~ to 다음날 00:00 미만) */
+    private static Where where(OrderAdminSearch cond, Long idBefore) {
+        StringBuilder sql = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        if (cond.usernameLike() != null && !cond.usernameLike().isBlank()) {
+            sql.append(" JOIN users u ON u.id = o.user_id");
+        }
+        List<String> preds = new ArrayList<>();
+        if (cond.status() != null) {
+            preds.add("o.status = ?");
+            args.add(cond.status().name());
+        }
+        if (cond.orderNoLike() != null && !cond.orderNoLike().isBlank()) {
+            preds.add("LOWER(o.order_no) LIKE ?");
+            args.add("%" + cond.orderNoLike().toLowerCase() + "%");
+        }
+        if (cond.usernameLike() != null && !cond.usernameLike().isBlank()) {
+            preds.add("LOWER(u.username) LIKE ?");
+            args.add("%" + cond.usernameLike().toLowerCase() + "%");
+        }
+        if (cond.fromDate() != null) {
+            preds.add("o.created_at >= ?");
+            args.add(Timestamp.valueOf(cond.fromDate().atStartOfDay()));
+        }
+        if (cond.toDate() != null) {
+            preds.add("o.created_at < ?");
+            args.add(Timestamp.valueOf(cond.toDate().plusDays(1).atStartOfDay()));
+        }
+        if (idBefore != null) {
+            preds.add("o.id < ?");
+            args.add(idBefore);
+        }
+        if (!preds.isEmpty()) sql.append(" WHERE ").append(String.join(" AND ", preds));
+        return new Where(sql.toString(), args);
+    }
+
+    private record Head(long id, String orderNo, OrderStatus status, BigDecimal totalPrice,
+                        LocalDateTime createdAt, long userId) {}
+
+    private record Where(String sql, List<Object> args) {}
+}
@@ -1,19 +1,33 @@
 package com.ijin.hanaro.order;
 
+import com.ijin.hanaro.order.dto.OrderDetailRow;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, Long> {
+    // 운영 목록은 OrderReadRepository 가 처리. 예전 엔티티 방식 목록으로 OrderReadModelBenchmarkTest 의 비교 기준에만 남겨 둔다
     Page<Order> findByUser_IdOrderByIdDesc(Long userId, Pageable pageable);
     Optional<Order> findByIdAndUser_Id(Long id, Long userId); //본인 주문 단건 조회용
+
+    // 주문 상세: 엔티티 로딩 없이 주문+아이템을 한 번에 DTO 로, 소유자 검사도 같은 쿼리에서 (남의 주문이면 0행)
+    @Query("""
+        select new com.ijin.hanaro.order.dto.OrderDetailRow(
+               o.id, o.orderNo, o.status, o.totalPrice, o.createdAt,
+               i.id, i.product.id, i.productName, i.unitPrice, i.quantity)
+          from Order o
+          join o.user u
+          left join o.items i
+         where o.id = :orderId
+           and u.username = :username
+         order by i.id
+    """)
+    List<OrderDetailRow> findDetailRows(Long orderId, String username);
+
     List<Order> findByStatusAndStatusUpdatedAtBefore(OrderStatus status, LocalDateTime before);
 
     List<Order> findByStatusAndCreatedAtBetween(
@@ -27,14 +41,4 @@ public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecific
             java.time.LocalDateTime to
     );
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Transactional
-    @Query("""
-        update Order o
-           set o.status = :to,
-               o.statusUpdatedAt = CURRENT_TIMESTAMP
-         where o.status = :from
-           and o.statusUpdatedAt <= :threshold
-    """)
-    int bulkUpdateStatus(OrderStatus from, OrderStatus to, LocalDateTime threshold);
 }
\ No newline at end of file
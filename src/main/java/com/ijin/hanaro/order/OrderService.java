@@ -2,16 +2,20 @@ package com.ijin.hanaro.order;
 
 import com.ijin.hanaro.cart.CartItem;
 import com.ijin.hanaro.cart.CartItemRepository;
+import com.ijin.hanaro.journal.BusinessEventJournal;
+import com.ijin.hanaro.journal.JournalEvent;
 import com.ijin.hanaro.order.dto.*;
 import com.ijin.hanaro.product.Product;
+import com.ijin.hanaro.monitoring.StatementCounter;
 import com.ijin.hanaro.product.ProductRepository;
+import com.ijin.hanaro.product.StockReservationService;
 import com.ijin.hanaro.user.User;
 import com.ijin.hanaro.user.UserRepository;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
@@ -21,18 +25,21 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
     private final OrderRepository orderRepo;
-    private final OrderItemRepository orderItemRepo;
+    private final OrderItemJdbcRepository orderItemJdbcRepo;
+    private final OrderReadRepository orderRead;
     private final CartItemRepository cartItemRepo;
     private final ProductRepository productRepo;
+    private final StockReservationService stockReservation;
     private final UserRepository userRepo;
     private final MeterRegistry meterRegistry;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final BusinessEventJournal journal;
 
     private static final Logger ORDER_LOG = LoggerFactory.getLogger("business.order");
 
@@ -40,6 +47,7 @@ public class OrderService {
     @Transactional
     public OrderCreateResponse createFromCart(String username) {
         long _start = System.nanoTime();
+        StatementCounter.start();
         ORDER_LOG.info("ORDER_CREATE_BEGIN username={}", username);
         try {
             User user = userRepo.findByUsername(username)
@@ -51,12 +59,21 @@ public class OrderService {
                 throw new IllegalStateException("장바구니가 비어 있어 주문을 생성할 수 없습니다.");
             }
 
+            // 상품 일괄 조회 (카트 라인 수와 무관하게 1회)
+            List<Long> productIds = cartItems.stream().map(ci -> ci.getProduct().getId()).distinct().toList();
+            Map<Long, Product> productMap = new HashMap<>();
+            for (Product p : productRepo.findAllById(productIds)) {
+                productMap.put(p.getId(), p);
+            }
+
             // 재고/삭제 체크 + 가격 합 계산
             BigDecimal total = BigDecimal.ZERO;
-            Map<Long, Product> productMap = new HashMap<>();
+            Map<Long, Integer> qtyByProduct = new LinkedHashMap<>();
             for (CartItem ci : cartItems) {
-                Product p = productRepo.findById(ci.getProduct().getId())
-                        .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. id=" + ci.getProduct().getId()));
+                Product p = productMap.get(ci.getProduct().getId());
+                if (p == null) {
+                    throw new IllegalArgumentException("상품을 찾을 수 없습니다. id=" + ci.getProduct().getId());
+                }
                 if (p.isDeleted()) {
                     ORDER_LOG.warn("ORDER_CREATE_FAILED_DELETED_PRODUCT username={} productId={}", username, p.getId());
                     throw new IllegalStateException("삭제된 상품이 포함되어 있습니다. 상품 id=" + p.getId());
@@ -70,12 +87,12 @@ public class OrderService {
                     throw new IllegalStateException("재고 부족: 상품(" + p.getName() + ") 남은 재고=" + p.getStockQuantity());
                 }
                 total = total.add(p.getPrice().multiply(BigDecimal.valueOf(ci.getQuantity())));
-                productMap.put(p.getId(), p);
+                qtyByProduct.merge(p.getId(), ci.getQuantity(), Integer::sum);
             }
 
             // 주문 헤더 생성
             Order order = Order.builder()
-                    .orderNo(generateOrderNo())
+                    .orderNo(orderNumberGenerator.next())
                     .user(user)
                     .status(OrderStatus.ORDERED)
                     .paidAt(LocalDateTime.now())
@@ -87,22 +104,36 @@ public class OrderService {
 
             ORDER_LOG.info("ORDER_CREATED id={} orderNo={} username={} total={} items={}", order.getId(), order.getOrderNo(), username, total, cartItems.size());
 
-            // 아이템 생성 + 재고 차감
+            // 아이템 일괄 INSERT (JDBC batch)
+            List<OrderItem> orderItems = new ArrayList<>(cartItems.size());
             for (CartItem ci : cartItems) {
                 Product p = productMap.get(ci.getProduct().getId());
-
-                OrderItem oi = OrderItem.builder()
+                orderItems.add(OrderItem.builder()
                         .order(order)
                         .product(p)
                         .productName(p.getName())
                         .unitPrice(p.getPrice())
                         .quantity(ci.getQuantity())
-                        .build();
-                orderItemRepo.save(oi);
-                p.setStockQuantity(p.getStockQuantity() - ci.getQuantity());
-                productRepo.save(p);
+                        .build());
+            }
+            orderItemJdbcRepo.batchInsert(order.getId(), orderItems);
+
+            // 재고 차감 (상품 수와 무관하게 조건부 UPDATE 1회, 동시 주문으로 재고가 모자라면 예외 → 전체 롤백)
+            // 영속성 컨텍스트의 Product 는 건드리지 않아 dirty update 가 발생하지 않음
+            stockReservation.reserve(qtyByProduct);
+
+            // 이벤트 저널 (커밋 후 기록)
+            long now = System.currentTimeMillis();
+            journal.record(new JournalEvent.OrderCreated(now, order.getId(), user.getId(),
+                    BusinessEventJournal.millis(order.getPaidAt()), BusinessEventJournal.cents(total)));
+            for (OrderItem oi : orderItems) {
+                journal.record(new JournalEvent.OrderItemAdded(now, order.getId(), oi.getProduct().getId(),
+                        oi.getQuantity(), BusinessEventJournal.cents(oi.getUnitPrice())));
+            }
+            for (OrderItem oi : orderItems) {
+                Product p = oi.getProduct();
                 ORDER_LOG.info("ORDER_ITEM_ADDED orderId={} productId={} name='{}' unitPrice={} qty={} stockAfter={}",
-                        order.getId(), p.getId(), p.getName(), p.getPrice(), ci.getQuantity(), p.getStockQuantity());
+                        order.getId(), p.getId(), p.getName(), p.getPrice(), oi.getQuantity(), p.getStockQuantity() - qtyByProduct.get(p.getId()));
             }
 
             // 장바구니 비우기
@@ -117,91 +148,89 @@ public class OrderService {
                  .publishPercentileHistogram()
                  .register(meterRegistry)
                  .record(System.nanoTime() - _start, java.util.concurrent.TimeUnit.NANOSECONDS);
+            int statements = StatementCounter.stop();
+            if (StatementCounter.enabled()) {
+                DistributionSummary.builder("orders.create.statements")
+                     .description("주문 생성 1건당 실행된 JDBC 문장 수")
+                     .register(meterRegistry)
+                     .record(statements);
+            }
         }
     }
 
-    private String generateOrderNo() {
-        // yyyyMMddHHmmss + 4자리 난수
-        String ts = java.time.format.DateTimeFormatter.ofPattern("yyyyMMddHHmmss").format(LocalDateTime.now());
-        int r = (int)(Math.random() * 9000) + 1000;
-        return ts + r;
-    }
-
     @Transactional(readOnly = true)
-    // 내 주문 목록
+    // 내 주문 목록 (엔티티 없이 주문+아이템 평면 행 → DTO, 사용자 전용 DTO: userId 제외)
     public Page<OrderListItemResponse> myOrders(String username, Pageable pageable) {
         ORDER_LOG.info("MY_ORDERS_QUERY username={} page={} size={}", username, pageable.getPageNumber(), pageable.getPageSize());
         Long userId = userRepo.findIdByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        return orderRead.findMyOrders(userId, pageable);
+    }
 
-        Page<Order> ordersPage = orderRepo.findByUser_IdOrderByIdDesc(userId, pageable);
-
-        // 현재 페이지 주문 ID 수집
-        List<Long> orderIds = ordersPage.getContent().stream()
-                .map(Order::getId)
-                .toList();
-
-        // 아이템 일괄 조회 후 주문별 그룹핑
-        Map<Long, List<OrderItemResponse>> itemsByOrderId;
-        if (orderIds.isEmpty()) {
-            itemsByOrderId = Collections.emptyMap();
-        } else {
-            var items = orderItemRepo.findByOrder_IdIn(orderIds);
-            itemsByOrderId = items.stream()
-                    .collect(Collectors.groupingBy(
-                            it -> it.getOrder().getId(),
-                            Collectors.mapping(it -> new OrderItemResponse(
-                                    it.getId(),
-                                    it.getProduct().getId(),
-                                    it.getProductName(),
-                                    it.getUnitPrice(),
-                                    it.getQuantity(),
-                                    it.getUnitPrice().multiply(BigDecimal.valueOf(it.getQuantity()))
-                            ), Collectors.toList())
-                    ));
-        }
-
-        // 페이지 매핑 (사용자 전용 DTO: userId 제외)
-        return ordersPage.map(o -> new OrderListItemResponse(
-                o.getId(),
-                o.getOrderNo(),
-                o.getStatus(),
-                o.getTotalPrice(),
-                o.getCreatedAt(),
-                itemsByOrderId.getOrDefault(o.getId(), List.of())
-        ));
+    @Transactional(readOnly = true)
+    // 내 주문 목록 (커서 기반, count 없음)
+    public CursorPage<OrderListItemResponse> myOrdersScroll(String username, String cursor, int size) {
+        size = CursorPage.clampSize(size);
+        ORDER_LOG.info("MY_ORDERS_SCROLL username={} cursor={} size={}", username, cursor, size);
+        Long userId = userRepo.findIdByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long idBefore = CursorPage.decodeCursor(cursor);
+
+        // size+1 건을 읽어 다음 페이지 존재 여부 판단
+        List<OrderListItemResponse> rows = orderRead.findMyOrdersBefore(
+                userId, idBefore == null ? Long.MAX_VALUE : idBefore, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<OrderListItemResponse> content = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? CursorPage.encodeCursor(content.get(content.size() - 1).id()) : null;
+        return new CursorPage<>(content, size, next, hasNext);
     }
 
     @Transactional(readOnly = true)
-    // 내 주문 상세 (본인 소유 체크는 컨트롤러에서)
-    public OrderDetailResponse getDetail(Long orderId) {
-        ORDER_LOG.info("ORDER_DETAIL_QUERY id={}", orderId);
-        Order o = orderRepo.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다. id=" + orderId));
+    // 내 주문 상세: 주문+아이템 DTO 프로젝션 1회 (본인 소유 검사 포함, 남의 주문은 없는 주문과 같게 응답)
+    public OrderDetailResponse getDetail(Long orderId, String username) {
+        ORDER_LOG.info("ORDER_DETAIL_QUERY id={} username={}", orderId, username);
+        List<OrderDetailRow> rows = orderRepo.findDetailRows(orderId, username);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("주문을 찾을 수 없습니다. id=" + orderId);
+        }
+        OrderDetailRow head = rows.get(0);
+        List<OrderItemResponse> items = new ArrayList<>(rows.size());
+        for (OrderDetailRow r : rows) {
+            if (r.itemId() == null) continue; // 아이템 없는 주문
+            items.add(new OrderItemResponse(
+                    r.itemId(),
+                    r.productId(),
+                    r.productName(),
+                    r.unitPrice(),
+                    r.quantity(),
+                    r.unitPrice().multiply(BigDecimal.valueOf(r.quantity()))
+            ));
+        }
         return new OrderDetailResponse(
-                o.getId(), o.getOrderNo(), o.getStatus(), o.getTotalPrice(), o.getCreatedAt(),
-                o.getItems().stream().map(i ->
-                        new OrderItemResponse(
-                                i.getId(),
-                                i.getProduct().getId(),
-                                i.getProductName(),
-                                i.getUnitPrice(),
-                                i.getQuantity(),
-                                i.getUnitPrice().multiply(BigDecimal.valueOf(i.getQuantity()))
-                        )
-                ).collect(Collectors.toList())
-        );
+                head.orderId(), head.orderNo(), head.status(), head.totalPrice(), head.createdAt(), items);
     }
 
     @Transactional(readOnly = true)
-    public Page<Order> adminSearch(OrderAdminSearch cond, Pageable pageable) {
+    // 관리자 주문 검색 (엔티티 없이 주문+아이템 평면 행 → DTO)
+    public Page<AdminOrderListItemResponse> adminSearch(OrderAdminSearch cond, Pageable pageable) {
         ORDER_LOG.info("ADMIN_ORDERS_SEARCH status={} orderNoLike='{}' usernameLike='{}' from={} to={} page={} size={}",
                 cond.status(), cond.orderNoLike(), cond.usernameLike(), cond.fromDate(), cond.toDate(),
                 pageable.getPageNumber(), pageable.getPageSize());
-        Specification<Order> spec = Specification.where(OrderSpecifications.statusEq(cond.status()))
-                .and(OrderSpecifications.orderNoLike(cond.orderNoLike()))
-                .and(OrderSpecifications.usernameLike(cond.usernameLike()))
-                .and(OrderSpecifications.createdBetween(cond.fromDate(), cond.toDate()));
-        return orderRepo.findAll(spec, pageable);
+        return orderRead.search(cond, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    // 관리자 주문 검색 (커서 기반, count 없음)
+    public CursorPage<AdminOrderListItemResponse> adminSearchScroll(OrderAdminSearch cond, String cursor, int size) {
+        size = CursorPage.clampSize(size);
+        ORDER_LOG.info("ADMIN_ORDERS_SCROLL status={} orderNoLike='{}' usernameLike='{}' from={} to={} cursor={} size={}",
+                cond.status(), cond.orderNoLike(), cond.usernameLike(), cond.fromDate(), cond.toDate(), cursor, size);
+        Long idBefore = CursorPage.decodeCursor(cursor);
+
+        List<AdminOrderListItemResponse> rows = orderRead.searchBefore(cond, idBefore, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<AdminOrderListItemResponse> content = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? CursorPage.encodeCursor(content.get(content.size() - 1).id()) : null;
+        return new CursorPage<>(content, size, next, hasNext);
     }
-}
\ No newline at end of file
+}
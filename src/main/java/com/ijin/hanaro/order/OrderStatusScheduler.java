@@ -1,58 +1,59 @@
 package com.ijin.hanaro.order;
 
-import lombok.RequiredArgsConstructor;
+import com.ijin.hanaro.scheduling.SchedulerLeader;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-
+/**
+ * 주문 상태 자동 전환의 보정 스윕.
+ * 평소 전환은 OrderStatusTimer 가 주문별 타이머로 처리하고, 이 스윕은 타이머가 놓친 주문
+ * (catchUpLagSeconds 보다 늦게 커밋된 주문, 타이머가 꺼져 있던 동안의 주문 등)만 드물게 따라잡는다.
+ * 스윕이 옮긴 주문도 status_updated_at 이 바뀌므로 다음 단계는 타이머의 catchUp 이 예약한다.
+ * 대기 시간은 타이머와 같은 app.order.aging.* 를 쓴다.
+ * 여러 노드 중 임대를 가진 노드만 실행하며, 묶음마다 아직 리더인지 확인한다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OrderStatusScheduler {
 
-    private final OrderRepository orderRepository;
+    static final String JOB = "order-status-sweep";
 
-    /**
-     * 결제완료(ORDERED) -> 배송준비(PREPARING)
-     * 매 5분마다: 최근 상태 갱신 시간이 5분 이상 지난 건들을 PREPARING으로 전환
-     */
-    @Scheduled(cron = "0 */5 * * * *") // 매 5분
-    public void toPreparing() {
-        var threshold = LocalDateTime.now().minusMinutes(5);
-        int changed = orderRepository.bulkUpdateStatus(
-                OrderStatus.ORDERED, OrderStatus.PREPARING, threshold);
-        if (changed > 0) {
-            log.info("[Scheduler] ORDERED -> PREPARING 변경 건수: {}", changed);
-        }
+    private final ChunkedStatusTransitionExecutor transitions;
+    private final SchedulerLeader leader;
+    private final long toPreparingMinutes;
+    private final long toShippingMinutes;
+    private final long toDeliveredMinutes;
+
+    public OrderStatusScheduler(ChunkedStatusTransitionExecutor transitions,
+                                SchedulerLeader leader,
+                                @Value("${app.order.aging.toPreparingMinutes:120}") long toPreparingMinutes,
+                                @Value("${app.order.aging.toShippingMinutes:720}") long toShippingMinutes,
+                                @Value("${app.order.aging.toDeliveredMinutes:4320}") long toDeliveredMinutes) {
+        this.transitions = transitions;
+        this.leader = leader;
+        this.toPreparingMinutes = toPreparingMinutes;
+        this.toShippingMinutes = toShippingMinutes;
+        this.toDeliveredMinutes = toDeliveredMinutes;
     }
 
-    /**
-     * 배송준비(PREPARING) -> 배송중(SHIPPING)
-     * 매 15분마다: 최근 상태 갱신 시간이 15분 이상 지난 건들을 SHIPPING으로 전환
-     */
-    @Scheduled(cron = "0 */15 * * * *") // 매 15분
-    public void toShipping() {
-        var threshold = LocalDateTime.now().minusMinutes(15);
-        int changed = orderRepository.bulkUpdateStatus(
-                OrderStatus.PREPARING, OrderStatus.SHIPPING, threshold);
-        if (changed > 0) {
-            log.info("[Scheduler] PREPARING -> SHIPPING 변경 건수: {}", changed);
-        }
+    /** 전환 시 statusUpdatedAt 이 갱신되므로 한 번의 스윕에서 한 주문이 두 단계를 넘어가지는 않는다 */
+    @Scheduled(cron = "${app.order.aging.sweepCron:0 30 * * * *}")
+    public void sweep() {
+        leader.runIfLeader(JOB, fence -> {
+            transition(OrderStatus.ORDERED, OrderStatus.PREPARING, toPreparingMinutes, fence);
+            transition(OrderStatus.PREPARING, OrderStatus.SHIPPING, toShippingMinutes, fence);
+            transition(OrderStatus.SHIPPING, OrderStatus.DELIVERED, toDeliveredMinutes, fence);
+        });
     }
 
-    /**
-     * 배송중(SHIPPING) -> 배송완료(DELIVERED)
-     * 매 1시간마다: 최근 상태 갱신 시간이 1시간 이상 지난 건들을 DELIVERED로 전환
-     */
-    @Scheduled(cron = "0 0 * * * *") // 매 정시(1시간마다)
-    public void toDelivered() {
-        var threshold = LocalDateTime.now().minusHours(1);
-        int changed = orderRepository.bulkUpdateStatus(
-                OrderStatus.SHIPPING, OrderStatus.DELIVERED, threshold);
+    private void transition(OrderStatus from, OrderStatus to, long minutes, SchedulerLeader.Fence fence) {
+        var threshold = transitions.dbNow().minusMinutes(minutes);
+        // 한 번의 UPDATE 대신 작은 묶음으로 (주문 생성 INSERT 를 오래 막지 않도록). 저널은 묶음마다 옮긴 id 로 기록된다
+        int changed = transitions.run(from, to, threshold, fence::check);
         if (changed > 0) {
-            log.info("[Scheduler] SHIPPING -> DELIVERED 변경 건수: {}", changed);
+            log.info("[Scheduler] {} -> {} 변경 건수: {}", from, to, changed);
         }
     }
-}
\ No newline at end of file
+}
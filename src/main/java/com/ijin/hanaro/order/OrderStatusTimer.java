@@ -0,0 +1,294 @@
+package com.ijin.hanaro.order;
+
+import com.ijin.hanaro.journal.BusinessEventJournal;
+import com.ijin.hanaro.journal.JournalEvent;
+import com.ijin.hanaro.scheduling.SchedulerLeader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상태 자동 전환 상태기계: ORDERED → PREPARING → SHIPPING → DELIVERED.
+ * 주문마다 "다음 전환 시각"을 DelayQueue 에 넣고, 시각이 된 것만 전용 스레드가 작은 묶음(batchSize)으로 꺼내 전환한다.
+ * - 대기 시간: app.order.aging.toPreparingMinutes / toShippingMinutes / toDeliveredMinutes
+ * - 여러 노드 중 임대(SchedulerLeader, 작업 order-status-timer)를 가진 노드 하나만 타이머를 메모리에 올리고 전환한다.
+ *   리더가 되면 진행 중 상태(ORDERED/PREPARING/SHIPPING)의 주문을 DB 에서 읽어 타이머를 복구하고,
+ *   이후 catchUpIntervalMs 마다 지난번 이후 상태가 바뀐 주문만 (status, status_updated_at) 인덱스로 읽어 예약한다
+ *   (어느 노드에서 만든 주문이든, 타이머/보정 스윕/관리자가 옮긴 주문이든 다음 단계가 여기서 예약된다).
+ *   리더를 잃으면 전환 스레드를 멈추고 대기열을 비운다.
+ * - 전환은 "아직 같은 상태이고 statusUpdatedAt + 대기 시간이 지난 행"에만 적용 (취소/수동 변경된 주문은 건너뜀).
+ *   묶음 트랜잭션 안에서 리더 자격(Fence)을 확인하므로 임기가 끝난 옛 리더는 쓰지 못한다
+ *   (Fence 가 없으면, 즉 리더를 잃고 stop() 된 뒤면 전환하지 않는다. 임대가 꺼져 있으면 runIfLeader 가 UNFENCED 를 준다).
+ * - 실패한 묶음은 retryDelayMs 뒤에 다시 시도한다. 커밋이 catchUpLagSeconds 보다 늦어 놓친 주문은 OrderStatusScheduler 의 보정 스윕이 처리한다.
+ */
+@Slf4j
+@Component
+public class OrderStatusTimer {
+
+    static final String JOB = "order-status-timer";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final BusinessEventJournal journal;
+    private final SchedulerLeader leader;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long retryDelayMs;
+    private final int catchUpLagSeconds;
+    private final EnumMap<OrderStatus, Long> delayMs = new EnumMap<>(OrderStatus.class);
+
+    private final DelayQueue<Pending> queue = new DelayQueue<>();
+    private final Counter transitioned;
+    private final Counter skipped;
+    private final Counter failed;
+    private final Timer batchTimer;
+    private volatile Thread worker;
+    /** 리더 임기 동안의 펜싱 토큰 (리더가 아니면 null) */
+    private volatile SchedulerLeader.Fence fence;
+    /** 이 시각(DB 시계)까지 바뀐 주문은 대기열에 반영했다. tick 스레드에서만 쓴다 */
+    private LocalDateTime watermark;
+
+    public OrderStatusTimer(JdbcTemplate jdbc,
+                            PlatformTransactionManager txManager,
+                            BusinessEventJournal journal,
+                            SchedulerLeader leader,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.order.aging.toPreparingMinutes:120}") long toPreparingMinutes,
+                            @Value("${app.order.aging.toShippingMinutes:720}") long toShippingMinutes,
+                            @Value("${app.order.aging.toDeliveredMinutes:4320}") long toDeliveredMinutes,
+                            @Value("${app.order.aging.timer.enabled:true}") boolean enabled,
+                            @Value("${app.order.aging.timer.batchSize:100}") int batchSize,
+                            @Value("${app.order.aging.timer.retryDelayMs:10000}") long retryDelayMs,
+                            @Value("${app.order.aging.timer.catchUpLagSeconds:5}") int catchUpLagSeconds) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.journal = journal;
+        this.leader = leader;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.retryDelayMs = retryDelayMs;
+        this.catchUpLagSeconds = catchUpLagSeconds;
+        delayMs.put(OrderStatus.ORDERED, TimeUnit.MINUTES.toMillis(toPreparingMinutes));
+        delayMs.put(OrderStatus.PREPARING, TimeUnit.MINUTES.toMillis(toShippingMinutes));
+        delayMs.put(OrderStatus.SHIPPING, TimeUnit.MINUTES.toMillis(toDeliveredMinutes));
+
+        this.transitioned = Counter.builder("order.status.timer.transitioned")
+                .description("타이머로 전환된 주문 수")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("order.status.timer.skipped")
+                .description("시각이 됐지만 이미 다른 상태라 건너뛴 타이머 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("order.status.timer.failed")
+                .description("DB 오류로 다시 예약한 묶음 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.status.timer.batch.time")
+                .description("전환 묶음 1회 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("order.status.timer.pending", queue, DelayQueue::size)
+                .description("예약된 상태 전환 수")
+                .register(meterRegistry);
+    }
+
+    /** 자동 전환의 다음 상태 (종료 상태면 null) */
+    static OrderStatus next(OrderStatus status) {
+        return switch (status) {
+            case ORDERED -> OrderStatus.PREPARING;
+            case PREPARING -> OrderStatus.SHIPPING;
+            case SHIPPING -> OrderStatus.DELIVERED;
+            case DELIVERED, CANCELED -> null;
+        };
+    }
+
+    void schedule(long orderId, OrderStatus status, LocalDateTime statusUpdatedAt) {
+        if (next(status) == null) return;
+        queue.add(new Pending(orderId, status, BusinessEventJournal.millis(statusUpdatedAt) + delayMs.get(status)));
+    }
+
+    int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 리더면 타이머를 돌리고(처음이거나 새 임기면 복구 후 스레드 시작, 아니면 바뀐 주문만 따라잡기), 아니면 멈춘다.
+     * 임대 연장도 이 호출(runIfLeader)로 함께 된다.
+     */
+    @Scheduled(fixedDelayString = "${app.order.aging.timer.catchUpIntervalMs:10000}")
+    public void tick() {
+        if (!enabled) return;
+        if (!leader.runIfLeader(JOB, this::lead) && fence != null) {
+            stop();
+            queue.clear();
+            log.info("[OrderStatusTimer] 리더가 아니어서 타이머를 멈춤");
+        }
+    }
+
+    private void lead(SchedulerLeader.Fence f) {
+        LocalDateTime to = jdbc.queryForObject("SELECT NOW(6) - INTERVAL ? SECOND", LocalDateTime.class, catchUpLagSeconds);
+        SchedulerLeader.Fence current = fence;
+        if (current != null && current.token() == f.token() && worker != null) {
+            int n = catchUp(watermark, to);
+            watermark = to;
+            if (n > 0) log.debug("[OrderStatusTimer] 상태가 바뀐 주문 {}건 예약", n);
+            return;
+        }
+        // 새 임기: 이전 임기에 쌓인 대기열은 믿을 수 없으므로 DB 에서 다시 만든다
+        stop();
+        queue.clear();
+        fence = f;
+        int recovered = recover();
+        watermark = to;
+        log.info("[OrderStatusTimer] 리더 시작 token={}, 타이머 복구 {}건, batchSize={}", f.token(), recovered, batchSize);
+        Thread t = new Thread(this::run, "order-status-timer");
+        t.setDaemon(true);
+        worker = t;
+        t.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        Thread t = worker;
+        worker = null;
+        fence = null;
+        if (t != null) t.interrupt();
+    }
+
+    /** (from, to] 사이에 상태가 바뀐 진행 중 주문을 예약. 이미 예약된 주문이 다시 들어와도 전환 시 상태가 달라 건너뛴다 */
+    int catchUp(LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) return 0;
+        int[] n = {0};
+        jdbc.query("""
+            SELECT id, status, status_updated_at FROM orders
+             WHERE status IN ('ORDERED', 'PREPARING', 'SHIPPING')
+               AND status_updated_at > ? AND status_updated_at <= ?
+        """, rs -> {
+            schedule(rs.getLong(1), OrderStatus.valueOf(rs.getString(2)), rs.getTimestamp(3).toLocalDateTime());
+            n[0]++;
+        }, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return n[0];
+    }
+
+    int recover() {
+        int[] n = {0};
+        jdbc.query(con -> {
+            var ps = con.prepareStatement("""
+                SELECT id, status, status_updated_at FROM orders
+                 WHERE status IN ('ORDERED', 'PREPARING', 'SHIPPING')
+            """, java.sql.ResultSet.TYPE_FORWARD_ONLY, java.sql.ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE); // MySQL: 결과를 스트리밍으로 읽어 전체를 메모리에 올리지 않음
+            return ps;
+        }, rs -> {
+            schedule(rs.getLong(1), OrderStatus.valueOf(rs.getString(2)), rs.getTimestamp(3).toLocalDateTime());
+            n[0]++;
+        });
+        return n[0];
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (worker == Thread.currentThread()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1); // 이미 시각이 된 것만 꺼낸다
+                processBatch(batch, fence);
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                failed.increment();
+                log.warn("[OrderStatusTimer] 전환 실패 {}건, {}ms 뒤 재시도: {}", batch.size(), retryDelayMs, e.getMessage());
+                long retryAt = System.currentTimeMillis() + retryDelayMs;
+                for (Pending p : batch) queue.add(new Pending(p.orderId(), p.from(), retryAt));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** 묶음을 현재 상태별로 나눠 전환. 다음 단계는 바뀐 status_updated_at 을 catchUp 이 읽어 예약한다 */
+    void processBatch(List<Pending> batch, SchedulerLeader.Fence fence) {
+        if (fence == null) throw new IllegalStateException("리더가 아니어서 상태를 전환하지 않습니다");
+        long t0 = System.nanoTime();
+        Map<OrderStatus, List<Long>> byStatus = new EnumMap<>(OrderStatus.class);
+        for (Pending p : batch) byStatus.computeIfAbsent(p.from(), k -> new ArrayList<>()).add(p.orderId());
+
+        for (Map.Entry<OrderStatus, List<Long>> e : byStatus.entrySet()) {
+            OrderStatus from = e.getKey();
+            OrderStatus to = next(from);
+            List<Long> ids = e.getValue();
+            List<Pending> reschedule = new ArrayList<>();
+            // 판단/기록 시각은 DB 시계 (status_updated_at 을 증분 매출 집계 워터마크와 같은 시계로 쓰기 위해)
+            LocalDateTime[] now = new LocalDateTime[1];
+            List<Long> moved = tx.execute(s -> {
+                // 임대 행을 공유 잠금해 커밋까지 다른 노드가 인수하지 못하게 한다 (임기가 끝났으면 예외 → 재시도 대기)
+                fence.check();
+                now[0] = jdbc.queryForObject("SELECT NOW(6)", LocalDateTime.class);
+                return transition(from, to, ids, now[0], reschedule);
+            });
+            queue.addAll(reschedule);
+            transitioned.increment(moved.size());
+            skipped.increment(ids.size() - moved.size() - reschedule.size());
+            if (!moved.isEmpty()) log.info("[OrderStatusTimer] {} -> {} 변경 건수: {}", from, to, moved.size());
+        }
+        batchTimer.record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 아직 from 상태인 행을 잠그고, 대기 시간이 지난 것만 전환한다.
+     * 그 사이 statusUpdatedAt 이 바뀌어 아직 이른 행은 reschedule 에 담아 돌려준다.
+     */
+    private List<Long> transition(OrderStatus from, OrderStatus to, List<Long> ids, LocalDateTime now, List<Pending> reschedule) {
+        String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids);
+        args.add(from.name());
+        long nowMillis = BusinessEventJournal.millis(now);
+        long delay = delayMs.get(from);
+        List<Long> due = new ArrayList<>(ids.size());
+        jdbc.query("SELECT id, status_updated_at FROM orders WHERE id IN (" + in + ") AND status = ? FOR UPDATE", rs -> {
+            long id = rs.getLong(1);
+            long dueAt = BusinessEventJournal.millis(rs.getTimestamp(2).toLocalDateTime()) + delay;
+            if (dueAt <= nowMillis) due.add(id);
+            // 남은 시간만큼 JVM 시계로 다시 예약 (DB 시계가 뒤처져 있어도 같은 항목을 바로 다시 꺼내지 않도록)
+            else reschedule.add(new Pending(id, from, System.currentTimeMillis() + (dueAt - nowMillis)));
+        }, args.toArray());
+        if (due.isEmpty()) return due;
+
+        List<Object> updateArgs = new ArrayList<>(due.size() + 2);
+        updateArgs.add(to.name());
+        updateArgs.add(Timestamp.valueOf(now));
+        updateArgs.addAll(due);
+        jdbc.update("UPDATE orders SET status = ?, status_updated_at = ? WHERE id IN ("
+                + String.join(",", Collections.nCopies(due.size(), "?")) + ")", updateArgs.toArray());
+        long ts = System.currentTimeMillis();
+        for (Long id : due) {
+            journal.record(new JournalEvent.OrderStatusChanged(ts, id, (byte) from.ordinal(), (byte) to.ordinal()));
+        }
+        return due;
+    }
+
+    record Pending(long orderId, OrderStatus from, long dueAtMillis) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(dueAtMillis, ((Pending) o).dueAtMillis);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.ijin.hanaro.order;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시각-노드-시퀀스 형식의 주문번호 발급기.
+ * 형식: yyyyMMddHHmmss(14) + 노드(2) + 시퀀스(7) = 23자, 예) 20250811143005 01 0000042
+ *
+ * - 상태는 (epochSecond << 20 | seq) 하나의 AtomicLong 으로 관리하며 CAS 로만 갱신한다 (lock-free).
+ * - 같은 초 안에서는 seq 를 증가시키고, 초당 2^20 건을 넘거나 시계가 뒤로 가면 직전 초를 이어 쓴다 → 노드 내 단조 증가.
+ * - 서로 다른 노드는 nodeId 로 구분되므로 app.order.number.nodeId 를 노드마다 다르게 설정해야 한다.
+ * - 날짜 prefix 는 초가 바뀔 때만 계산해 캐시하므로, 호출당 할당은 결과 String 뿐이다.
+ */
+@Component
+public class TimeSequenceOrderNumberGenerator implements OrderNumberGenerator {
+
+    static final int SEQ_BITS = 20;
+    static final long SEQ_MASK = (1L << SEQ_BITS) - 1;
+    private static final int PREFIX_LEN = 14;
+    private static final int NODE_LEN = 2;
+    private static final int SEQ_LEN = 7;
+    private static final int LEN = PREFIX_LEN + NODE_LEN + SEQ_LEN;
+    private static final DateTimeFormatter PREFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final AtomicLong state = new AtomicLong();
+    private final byte[] nodeDigits;
+    private final ZoneId zone;
+    private final ThreadLocal<byte[]> buffer = ThreadLocal.withInitial(() -> new byte[LEN]);
+
+    /** 초 단위 날짜 prefix 캐시 (불변 객체를 통째로 교체) */
+    private record Prefix(long epochSecond, byte[] digits) {}
+    private volatile Prefix prefix = new Prefix(-1, new byte[PREFIX_LEN]);
+
+    public TimeSequenceOrderNumberGenerator(
+            @Value("${app.order.number.nodeId:0}") int nodeId,
+            @Value("${app.order.number.zone:Asia/Seoul}") String zone) {
+        if (nodeId < 0 || nodeId > 99) {
+            throw new IllegalArgumentException("app.order.number.nodeId 는 0~99 범위여야 합니다: " + nodeId);
+        }
+        this.nodeDigits = new byte[]{(byte) ('0' + nodeId / 10), (byte) ('0' + nodeId % 10)};
+        this.zone = ZoneId.of(zone);
+    }
+
+    @Override
+    public String next() {
+        long s = nextState();
+        long sec = s >>> SEQ_BITS;
+        long seq = s & SEQ_MASK;
+
+        byte[] buf = buffer.get();
+        System.arraycopy(prefixFor(sec), 0, buf, 0, PREFIX_LEN);
+        buf[PREFIX_LEN] = nodeDigits[0];
+        buf[PREFIX_LEN + 1] = nodeDigits[1];
+        for (int i = LEN - 1; i >= PREFIX_LEN + NODE_LEN; i--) {
+            buf[i] = (byte) ('0' + (seq % 10));
+            seq /= 10;
+        }
+        return new String(buf, 0, LEN, StandardCharsets.ISO_8859_1);
+    }
+
+    /** (epochSecond << 20 | seq) 상태를 CAS 로 한 칸 전진시키고 새 상태를 반환 */
+    long nextState() {
+        long nowSec = System.currentTimeMillis() / 1000;
+        while (true) {
+            long prev = state.get();
+            long prevSec = prev >>> SEQ_BITS;
+            // 같은 초이거나 시계가 뒤로 간 경우 직전 상태에서 +1 (seq 가 넘치면 자연스럽게 다음 초로 넘어감)
+            long next = (prevSec >= nowSec) ? prev + 1 : (nowSec << SEQ_BITS);
+            if (state.compareAndSet(prev, next)) return next;
+        }
+    }
+
+    private byte[] prefixFor(long epochSecond) {
+        Prefix p = prefix;
+        if (p.epochSecond() != epochSecond) {
+            String ts = PREFIX_FORMAT.format(LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone));
+            p = new Prefix(epochSecond, ts.getBytes(StandardCharsets.ISO_8859_1));
+            prefix = p;
+        }
+        return p.digits();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ijin.hanaro.order.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답. id DESC 정렬에서 마지막 행의 id 를 불투명 커서로 돌려주며 total count 는 계산하지 않는다.
+ * 다음 페이지는 nextCursor 를 cursor 파라미터로 그대로 넘기면 된다 (hasNext=false 이면 null).
+ * size 는 1..MAX_SIZE 로 맞춘다 (응답의 size 는 실제 적용된 값).
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static final int MAX_SIZE = 100;
+    private static final String PREFIX = "id:";
+
+    /** 요청 size 를 1..MAX_SIZE 로 (0/음수/오버플로 방지) */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 값이면 null(첫 페이지), 형식이 잘못되면 IllegalArgumentException */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) throw new IllegalArgumentException();
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ijin.hanaro.order.dto;
+
+import com.ijin.hanaro.order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상세 조회용 평면 행 (orders ⟕ order_items 1행 = 아이템 1개).
+ * 아이템이 없는 주문이면 item 컬럼이 모두 null 인 1행.
+ */
+public record OrderDetailRow(
+        Long orderId,
+        String orderNo,
+        OrderStatus status,
+        BigDecimal totalPrice,
+        LocalDateTime createdAt,
+        Long itemId,
+        Long productId,
+        String productName,
+        BigDecimal unitPrice,
+        Integer quantity
+) {}
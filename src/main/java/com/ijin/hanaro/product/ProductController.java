@@ -26,7 +26,7 @@ public class ProductController {
     private final Validator validator;
 
     // ===== 공개 조회 =====
-    @Operation(summary = "상품 목록 조회(공개)", description = "검색어 q(이름/설명 LIKE), 페이지네이션 page/size 지원")
+    @Operation(summary = "상품 목록 조회(공개)", description = "검색어 q(이름/설명 n-gram 색인, 관련도 순), 페이지네이션 page/size 지원")
     @GetMapping("/products")
     public Page<ProductListItemResponse> list(
             @RequestParam(required = false) String q,
@@ -18,8 +18,8 @@ public class ProductImage {
     private Product product;
 
     @Column(nullable=false, length=255) private String originalName;
-    @Column(nullable=false, length=500) private String storedPath;   // /resources/static/upload/...
-    @Column(nullable=false, length=200) private String storedName;   // UUID.ext
+    @Column(nullable=false, length=500) private String storedPath;   // /upload/{sha[0..2]}/{sha[2..4]} (ImageStorage)
+    @Column(nullable=false, length=200) private String storedName;   // {sha256}.ext
     @Column(nullable=false)             private Integer sizeBytes;   // ≤ 524_288
     @Column(length=64)                  private String checksumSha256;
     @Column(nullable=false)             private boolean primaryImage = false;
@@ -0,0 +1,58 @@
+package com.ijin.hanaro.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductImageJdbcRepository {
+
+    private final JdbcTemplate jdbc;
+
+    /**
+     * 상품 이미지 일괄 INSERT (JDBC batch) 후 생성된 id 를 입력 순서대로 돌려준다.
+     * IDENTITY 키 전략에서는 Hibernate insert batching 이 꺼지므로 JdbcTemplate 으로 직접 묶어 보낸다.
+     */
+    public List<Long> batchInsert(Long productId, List<ProductImage> images) {
+        if (images.isEmpty()) return List.of();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.batchUpdate(con -> con.prepareStatement("""
+            INSERT INTO product_images (product_id, original_name, stored_path, stored_name, size_bytes, checksum_sha256, primary_image)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+        """, Statement.RETURN_GENERATED_KEYS), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProductImage img = images.get(i);
+                ps.setLong(1, productId);
+                ps.setString(2, img.getOriginalName());
+                ps.setString(3, img.getStoredPath());
+                ps.setString(4, img.getStoredName());
+                ps.setInt(5, img.getSizeBytes());
+                ps.setString(6, img.getChecksumSha256());
+                ps.setBoolean(7, img.isPrimaryImage());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return images.size();
+            }
+        }, keys);
+
+        List<Long> ids = new ArrayList<>(images.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            ids.add(((Number) row.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
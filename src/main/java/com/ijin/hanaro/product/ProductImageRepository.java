@@ -3,6 +3,7 @@ package com.ijin.hanaro.product;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
@@ -13,6 +14,10 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
 
     List<ProductImage> findByProduct_Id(Long productId);
     List<ProductImage> findByProduct_IdOrderByIdAsc(Long productId);
+    List<ProductImage> findByProduct_IdIn(Collection<Long> productIds);
     boolean existsByChecksumSha256(String checksumSha256);
     boolean existsByChecksumSha256AndIdNot(String checksumSha256, Long id);
+
+    @Query("select pi.checksumSha256 from ProductImage pi where pi.checksumSha256 in :checksums")
+    List<String> findExistingChecksums(Collection<String> checksums);
 }
\ No newline at end of file
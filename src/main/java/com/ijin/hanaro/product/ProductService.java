@@ -1,20 +1,31 @@
 package com.ijin.hanaro.product;
 
+import com.ijin.hanaro.config.CacheConfig;
+import com.ijin.hanaro.journal.BusinessEventJournal;
+import com.ijin.hanaro.journal.JournalEvent;
 import com.ijin.hanaro.product.dto.*;
+import com.ijin.hanaro.product.search.NgramTokenizer;
+import com.ijin.hanaro.product.search.ProductChangedEvent;
+import com.ijin.hanaro.product.search.ProductSearchIndex;
+import com.ijin.hanaro.product.storage.ImageIngestExecutor;
+import com.ijin.hanaro.product.storage.ImageStorage;
+import com.ijin.hanaro.product.storage.ImageVariantGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
 import java.math.BigDecimal;
-import java.nio.file.*;
-import java.security.MessageDigest;
-import java.time.LocalDate;
 import java.util.*;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +35,14 @@ import org.slf4j.LoggerFactory;
 public class ProductService {
     private final ProductRepository productRepo;
     private final ProductImageRepository imageRepo;
+    private final StockReservationService stockReservation;
+    private final ProductSearchIndex searchIndex;
+    private final ApplicationEventPublisher events;
+    private final BusinessEventJournal journal;
+    private final ImageStorage imageStorage;
+    private final ImageIngestExecutor imageIngest;
+    private final ImageVariantGenerator imageVariants;
+    private final ProductImageJdbcRepository imageJdbc;
 
     private static final Logger BIZ_LOG = LoggerFactory.getLogger("business.product");
 
@@ -31,6 +50,7 @@ public class ProductService {
     private static final long MAX_TOTAL_PER_PRODUCT = 3L * 1024 * 1024; // 3MB
     private static final Set<String> ALLOWED = Set.of("image/jpeg","image/png","image/webp");
 
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
     @Transactional
     public Long create(ProductCreateRequest r, MultipartFile mainImage) {
         if (mainImage == null || mainImage.isEmpty()) {
@@ -60,56 +80,32 @@ public class ProductService {
         p.setStockQuantity(r.stockQuantity());
         // 우선 상품을 저장하여 ID를 확보
         p = productRepo.save(p);
+        journal.record(new JournalEvent.StockSet(System.currentTimeMillis(), p.getId(), p.getStockQuantity()));
         BIZ_LOG.info("PRODUCT_CREATE_BEGIN id={} name='{}' price={} stock={}", p.getId(), p.getName(), p.getPrice(), p.getStockQuantity());
 
         try {
-            // 저장 경로: ./upload/YYYY/MM/DD
-            LocalDate d = LocalDate.now();
-            Path base = Paths.get("src/main/resources/static/upload",
-                    String.valueOf(d.getYear()),
-                    String.format("%02d", d.getMonthValue()),
-                    String.format("%02d", d.getDayOfMonth()))
-                    .toAbsolutePath();
-            Files.createDirectories(base);
-
-            String ext = switch (Objects.requireNonNull(mainImage.getContentType())) {
-                case "image/jpeg" -> ".jpg";
-                case "image/png"  -> ".png";
-                case "image/webp" -> ".webp";
-                default -> "";
-            };
-            String uuid = UUID.randomUUID().toString().replace("-", "");
-            String storedName = uuid + ext;
-            Path target = base.resolve(storedName);
-            try {
-                mainImage.transferTo(target.toFile());
-            } catch (NoSuchFileException | FileNotFoundException ex) {
-                Files.copy(mainImage.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-            }
-
-            byte[] bytes = Files.readAllBytes(target);
-            String checksum = sha256Hex(bytes);
+            ImageStorage.StoredImage stored = ingest(mainImage);
+            String checksum = stored.sha256();
             if (imageRepo.existsByChecksumSha256(checksum)) {
                 throw new IllegalStateException("중복된 이미지입니다");
             }
-            String storedPath = "/upload/%d/%02d/%02d".formatted(d.getYear(), d.getMonthValue(), d.getDayOfMonth());
 
             // ProductImage 엔티티로도 저장(대표 이미지)
             ProductImage img = new ProductImage();
             img.setProduct(p);
             img.setOriginalName(Objects.requireNonNull(mainImage.getOriginalFilename()));
-            img.setStoredPath(storedPath);
-            img.setStoredName(storedName);
-            img.setSizeBytes(bytes.length);
+            img.setStoredPath(stored.storedPath());
+            img.setStoredName(stored.storedName());
+            img.setSizeBytes((int) stored.sizeBytes());
             img.setChecksumSha256(checksum);
             img.setPrimaryImage(true);
             imageRepo.save(img);
 
             // 상품의 대표 경로도 동기화
-            p.setMainImagePath(storedPath + "/" + storedName);
+            p.setMainImagePath(stored.url());
             productRepo.save(p);
             BIZ_LOG.info("PRODUCT_CREATED id={} name='{}' mainImagePath={} checksum={} bytes={}",
-                    p.getId(), p.getName(), p.getMainImagePath(), checksum, bytes.length);
+                    p.getId(), p.getName(), p.getMainImagePath(), checksum, stored.sizeBytes());
         } catch (IOException e) {
             BIZ_LOG.error("PRODUCT_CREATE_FAILED_IO name='{}' message={}", r.name(), e.getMessage(), e);
             throw new IllegalStateException("이미지 저장 중 오류가 발생했습니다.", e);
@@ -118,9 +114,14 @@ public class ProductService {
             throw new RuntimeException(e);
         }
 
+        events.publishEvent(new ProductChangedEvent(p.getId()));
         return p.getId();
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
+    })
     @Transactional
     public void update(Long id, ProductUpdateRequest r) {
         BIZ_LOG.info("PRODUCT_UPDATE_BEGIN id={}", id);
@@ -134,7 +135,10 @@ public class ProductService {
         if (r.name() != null) p.setName(r.name());
         if (r.description() != null) p.setDescription(r.description());
         if (r.price() != null) p.setPrice(r.price());
-        if (r.stockQuantity() != null) p.setStockQuantity(r.stockQuantity());
+        if (r.stockQuantity() != null) {
+            p.setStockQuantity(r.stockQuantity());
+            journal.record(new JournalEvent.StockSet(System.currentTimeMillis(), p.getId(), r.stockQuantity()));
+        }
         if (r.mainImagePath() != null) p.setMainImagePath(r.mainImagePath());
         List<String> changed = new ArrayList<>();
         if (r.name() != null) changed.add("name");
@@ -143,30 +147,30 @@ public class ProductService {
         if (r.stockQuantity() != null) changed.add("stockQuantity");
         if (r.mainImagePath() != null) changed.add("mainImagePath");
         productRepo.save(p);
+        events.publishEvent(new ProductChangedEvent(p.getId()));
         BIZ_LOG.info("PRODUCT_UPDATED id={} changed={}", p.getId(), changed);
     }
 
     //상품삭제
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
+    })
     @Transactional
     public void deleteSoft(Long id) {
         BIZ_LOG.info("PRODUCT_DELETE_BEGIN id={}", id);
         Product p = productRepo.findById(id).orElseThrow(() -> new IllegalArgumentException("상품 없음"));
 
-        // 1) 파일 삭제 (best-effort)
+        // 1) 파일 삭제 (커밋 후 best-effort)
         List<ProductImage> images = imageRepo.findByProduct_Id(id);
-        for (ProductImage img : images) {
-            try {
-                String rel = (img.getStoredPath() + "/" + img.getStoredName()).replaceFirst("^/", "");
-                Path path = Paths.get("src/main/resources/static").resolve(rel).toAbsolutePath();
-                Files.deleteIfExists(path);
-            } catch (Exception ignore) { /* 파일이 없어도 무시 */ }
-        }
+        images.forEach(img -> deleteFileAfterCommit(img.getStoredPath(), img.getStoredName(), img.getChecksumSha256()));
 
         // 2) 이미지 엔티티 삭제
         imageRepo.deleteAll(images);
 
         // 3) 상품 엔티티 삭제
         productRepo.delete(p);
+        events.publishEvent(new ProductChangedEvent(id));
         BIZ_LOG.info("PRODUCT_DELETED id={} imagesDeleted={}", id, images.size());
     }
 
@@ -175,8 +179,14 @@ public class ProductService {
         Page<Product> page = (q==null || q.isBlank())
                 ? productRepo.findByIsDeletedFalse(pageable)
                 : productRepo.findByIsDeletedFalseAndNameContainingIgnoreCase(q, pageable);
+        // 현재 페이지 상품들의 이미지를 IN 쿼리 1회로 조회 후 상품별 그룹핑 (N+1 회피)
+        List<Long> productIds = page.getContent().stream().map(Product::getId).toList();
+        Map<Long, List<ProductImage>> imagesByProductId = productIds.isEmpty()
+                ? Collections.emptyMap()
+                : imageRepo.findByProduct_IdIn(productIds).stream()
+                        .collect(Collectors.groupingBy(img -> img.getProduct().getId()));
         return page.map(p -> {
-            List<ProductImage> imgs = imageRepo.findByProduct_Id(p.getId());
+            List<ProductImage> imgs = imagesByProductId.getOrDefault(p.getId(), List.of());
             List<String> paths = imgs.stream()
                     .sorted(Comparator.comparing(ProductImage::isPrimaryImage).reversed()
                             .thenComparing(ProductImage::getId))
@@ -202,6 +212,10 @@ public class ProductService {
     }
 
     /** 여러 장 업로드: 단일 ≤512KB, 상품 총합 ≤3MB, 최대 5장 권장 */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
+    })
     @Transactional
     public List<Long> uploadImages(Long productId, List<MultipartFile> files) throws Exception {
         Product product = productRepo.findById(productId)
@@ -220,68 +234,57 @@ public class ProductService {
         if (used + incoming > MAX_TOTAL_PER_PRODUCT)
             throw new IllegalArgumentException("상품당 이미지 총합 3MB 초과");
 
-        long uploadedBytes = 0L;
-
-        // 저장 경로: ./uploads/YYYY/MM/DD
-        LocalDate d = LocalDate.now();
-        Path base = Paths.get("src/main/resources/static/upload",
-                String.valueOf(d.getYear()),
-                String.format("%02d", d.getMonthValue()),
-                String.format("%02d", d.getDayOfMonth()))
-                .toAbsolutePath();
-        Files.createDirectories(base);
-
         boolean setPrimaryIfEmpty = imageRepo.countByProduct_Id(productId) == 0;
 
-        List<Long> ids = new ArrayList<>();
-        for (MultipartFile f : files) {
-            String ext = switch (Objects.requireNonNull(f.getContentType())) {
-                case "image/jpeg" -> ".jpg";
-                case "image/png"  -> ".png";
-                case "image/webp" -> ".webp";
-                default -> "";
-            };
-            // Read bytes FIRST to avoid temp-file move issues
-            byte[] bytes = f.getBytes();
-            String checksum = sha256Hex(bytes);
-            if (imageRepo.existsByChecksumSha256(checksum)) {
-                throw new IllegalStateException("중복된 이미지입니다");
-            }
+        // 읽기/해시/파일 쓰기는 전용 풀에서 동시에, DB 작업은 이 트랜잭션 스레드에서만
+        List<ImageStorage.StoredImage> stored = imageIngest.ingestAll(
+                files, f -> extensionOf(f.getContentType()), this::afterIngest);
 
-            String uuid = UUID.randomUUID().toString().replace("-", "");
-            String storedName = uuid + ext;
-            Path target = base.resolve(storedName);
-            Files.createDirectories(target.getParent());
-            // Write using NIO to ensure parent exists and avoid transferTo() pitfalls
-            Files.write(target, bytes, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        // 중복 검사: 파일마다 exists 쿼리 대신 IN 한 번 + 같은 요청 안의 중복
+        Set<String> checksums = new HashSet<>();
+        for (ImageStorage.StoredImage s : stored) {
+            if (!checksums.add(s.sha256())) throw new IllegalStateException("중복된 이미지입니다");
+        }
+        if (!checksums.isEmpty() && !imageRepo.findExistingChecksums(checksums).isEmpty()) {
+            throw new IllegalStateException("중복된 이미지입니다");
+        }
 
+        long uploadedBytes = stored.stream().mapToLong(ImageStorage.StoredImage::sizeBytes).sum();
+        if (used + uploadedBytes > MAX_TOTAL_PER_PRODUCT)
+            throw new IllegalArgumentException("상품당 이미지 총합 3MB 초과");
+
+        List<ProductImage> images = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            ImageStorage.StoredImage s = stored.get(i);
             ProductImage img = new ProductImage();
             img.setProduct(product);
-            img.setOriginalName(Objects.requireNonNull(f.getOriginalFilename()));
-            img.setStoredPath("/upload/%d/%02d/%02d".formatted(
-                    d.getYear(), d.getMonthValue(), d.getDayOfMonth()));
-            img.setStoredName(storedName);
-            img.setSizeBytes(bytes.length);
-            img.setChecksumSha256(checksum);
-            img.setPrimaryImage(setPrimaryIfEmpty);
-            uploadedBytes += bytes.length;
-            Long savedId = imageRepo.save(img).getId();
-            ids.add(savedId);
-
-            // 대표 이미지가 비어있다면 첫 업로드를 자동으로 대표로 설정
-            if (setPrimaryIfEmpty && (product.getMainImagePath() == null || product.getMainImagePath().isBlank())) {
-                product.setMainImagePath(img.getStoredPath() + "/" + img.getStoredName());
-                productRepo.save(product);
-            }
+            img.setOriginalName(Objects.requireNonNull(files.get(i).getOriginalFilename()));
+            img.setStoredPath(s.storedPath());
+            img.setStoredName(s.storedName());
+            img.setSizeBytes((int) s.sizeBytes());
+            img.setChecksumSha256(s.sha256());
+            // 이미지가 하나도 없던 상품이면 첫 장을 대표로
+            img.setPrimaryImage(setPrimaryIfEmpty && i == 0);
+            images.add(img);
+        }
+        List<Long> ids = imageJdbc.batchInsert(productId, images);
 
-            setPrimaryIfEmpty = false;
+        // 대표 이미지가 비어있다면 첫 업로드를 자동으로 대표로 설정
+        if (setPrimaryIfEmpty && !images.isEmpty()
+                && (product.getMainImagePath() == null || product.getMainImagePath().isBlank())) {
+            product.setMainImagePath(images.get(0).getStoredPath() + "/" + images.get(0).getStoredName());
+            productRepo.save(product);
         }
         BIZ_LOG.info("IMAGES_UPLOADED productId={} count={} bytes={} newTotalBytes={}",
-                productId, ids.size(), uploadedBytes, used + incoming);
+                productId, ids.size(), uploadedBytes, used + uploadedBytes);
         return ids;
     }
 
     //상품정보수정
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
+    })
     @Transactional
     public void updateWithImage(Long id, ProductUpdateRequest r, MultipartFile mainImage) {
         BIZ_LOG.info("PRODUCT_UPDATE_WITH_IMAGE_BEGIN id={} hasMainImage={}", id, (mainImage != null && !mainImage.isEmpty()));
@@ -295,7 +298,10 @@ public class ProductService {
         if (r.name() != null) p.setName(r.name());
         if (r.description() != null) p.setDescription(r.description());
         if (r.price() != null) p.setPrice(r.price());
-        if (r.stockQuantity() != null) p.setStockQuantity(r.stockQuantity());
+        if (r.stockQuantity() != null) {
+            p.setStockQuantity(r.stockQuantity());
+            journal.record(new JournalEvent.StockSet(System.currentTimeMillis(), p.getId(), r.stockQuantity()));
+        }
 
         // 메인 이미지 교체가 들어온 경우에만 저장/검증
         if (mainImage != null && !mainImage.isEmpty()) {
@@ -317,26 +323,8 @@ public class ProductService {
                     throw new IllegalArgumentException("상품당 이미지 총합 3MB 초과");
                 }
 
-                LocalDate d = LocalDate.now();
-                Path base = Paths.get("src/main/resources/static/upload",
-                        String.valueOf(d.getYear()),
-                        String.format("%02d", d.getMonthValue()),
-                        String.format("%02d", d.getDayOfMonth()))
-                        .toAbsolutePath();
-                Files.createDirectories(base);
-
-                String ext = switch (Objects.requireNonNull(mainImage.getContentType())) {
-                    case "image/jpeg" -> ".jpg";
-                    case "image/png"  -> ".png";
-                    case "image/webp" -> ".webp";
-                    default -> "";
-                };
-                String storedName = UUID.randomUUID().toString().replace("-", "") + ext;
-                Path target = base.resolve(storedName);
-                mainImage.transferTo(target.toFile());
-
-                byte[] bytes = Files.readAllBytes(target);
-                String checksum = sha256Hex(bytes);
+                ImageStorage.StoredImage stored = ingest(mainImage);
+                String checksum = stored.sha256();
                 Long oldPrimaryId = oldPrimaryOpt.map(ProductImage::getId).orElse(null);
                 if (oldPrimaryId == null) {
                     if (imageRepo.existsByChecksumSha256(checksum)) {
@@ -347,16 +335,13 @@ public class ProductService {
                         throw new IllegalStateException("중복된 이미지입니다");
                     }
                 }
-                String storedPath = "/upload/%d/%02d/%02d".formatted(d.getYear(), d.getMonthValue(), d.getDayOfMonth());
 
-                // 기존 대표 이미지 있으면 파일/엔티티 삭제
+                // 기존 대표 이미지 있으면 파일/엔티티 삭제 (같은 내용이면 같은 파일이므로 파일은 남긴다)
                 if (oldPrimaryOpt.isPresent()) {
                     ProductImage old = oldPrimaryOpt.get();
-                    try {
-                        String rel = (old.getStoredPath() + "/" + old.getStoredName()).replaceFirst("^/", "");
-                        Path oldPath = Paths.get("src/main/resources/static").resolve(rel).toAbsolutePath();
-                        Files.deleteIfExists(oldPath);
-                    } catch (Exception ignore) { /* 파일이 없어도 무시 */ }
+                    if (!stored.url().equals(old.getStoredPath() + "/" + old.getStoredName())) {
+                        deleteFileAfterCommit(old.getStoredPath(), old.getStoredName(), old.getChecksumSha256());
+                    }
                     imageRepo.delete(old);
                 }
 
@@ -364,17 +349,17 @@ public class ProductService {
                 ProductImage img = new ProductImage();
                 img.setProduct(p);
                 img.setOriginalName(Objects.requireNonNull(mainImage.getOriginalFilename()));
-                img.setStoredPath(storedPath);
-                img.setStoredName(storedName);
-                img.setSizeBytes(bytes.length);
+                img.setStoredPath(stored.storedPath());
+                img.setStoredName(stored.storedName());
+                img.setSizeBytes((int) stored.sizeBytes());
                 img.setChecksumSha256(checksum);
                 img.setPrimaryImage(true);
                 imageRepo.save(img);
 
                 // 상품 메인 경로 반영
-                p.setMainImagePath(storedPath + "/" + storedName);
+                p.setMainImagePath(stored.url());
                 BIZ_LOG.info("PRODUCT_PRIMARY_REPLACED id={} newPath={} checksum={} bytes={}",
-                        p.getId(), p.getMainImagePath(), checksum, bytes.length);
+                        p.getId(), p.getMainImagePath(), checksum, stored.sizeBytes());
             } catch (IOException e) {
                 BIZ_LOG.error("PRODUCT_PRIMARY_REPLACE_FAILED_IO id={} message={}", id, e.getMessage(), e);
                 throw new IllegalStateException("이미지 저장 중 오류가 발생했습니다.", e);
@@ -390,12 +375,17 @@ public class ProductService {
         if (r.price() != null) changed.add("price");
         if (r.stockQuantity() != null) changed.add("stockQuantity");
         productRepo.save(p);
+        events.publishEvent(new ProductChangedEvent(p.getId()));
         BIZ_LOG.info("PRODUCT_UPDATED id={} changed={}", p.getId(), changed);
     }
 
     //추가 이미지 메소드
 
     // 이미지 교체 (대표 포함), 파일당 512KB, 상품 총합(대표 포함) 3MB
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
+    })
     @Transactional
     public void replaceImage(Long productId, Long imageId, MultipartFile file) throws Exception {
         BIZ_LOG.info("IMAGE_REPLACE_BEGIN productId={} imageId={}", productId, imageId);
@@ -421,42 +411,22 @@ public class ProductService {
             throw new IllegalArgumentException("상품당 이미지 총합 3MB 초과");
         }
 
-        // 저장 경로: ./upload/YYYY/MM/DD
-        LocalDate d = LocalDate.now();
-        Path base = Paths.get("src/main/resources/static/upload",
-                String.valueOf(d.getYear()),
-                String.format("%02d", d.getMonthValue()),
-                String.format("%02d", d.getDayOfMonth()))
-                .toAbsolutePath();
-        Files.createDirectories(base);
-
-        String ext = switch (Objects.requireNonNull(file.getContentType())) {
-            case "image/jpeg" -> ".jpg";
-            case "image/png"  -> ".png";
-            case "image/webp" -> ".webp";
-            default -> "";
-        };
-        byte[] bytes = file.getBytes();
-        String checksum = sha256Hex(bytes);
+        ImageStorage.StoredImage stored = ingest(file);
+        String checksum = stored.sha256();
         if (imageRepo.existsByChecksumSha256AndIdNot(checksum, imageId)) {
             throw new IllegalStateException("중복된 이미지입니다");
         }
-        String storedName = UUID.randomUUID().toString().replace("-", "") + ext;
-        Path target = base.resolve(storedName);
-        Files.write(target, bytes, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
 
-        // 기존 파일 삭제(best-effort)
-        try {
-            String rel = (img.getStoredPath() + "/" + img.getStoredName()).replaceFirst("^/", "");
-            Path old = Paths.get("src/main/resources/static").resolve(rel).toAbsolutePath();
-            Files.deleteIfExists(old);
-        } catch (Exception ignore) { /* 파일이 없어도 무시 */ }
+        // 기존 파일 삭제(커밋 후 best-effort, 같은 내용이면 같은 파일이므로 남긴다)
+        if (!stored.url().equals(img.getStoredPath() + "/" + img.getStoredName())) {
+            deleteFileAfterCommit(img.getStoredPath(), img.getStoredName(), img.getChecksumSha256());
+        }
 
         // 메타데이터 갱신
         img.setOriginalName(Objects.requireNonNull(file.getOriginalFilename()));
-        img.setStoredPath("/upload/%d/%02d/%02d".formatted(d.getYear(), d.getMonthValue(), d.getDayOfMonth()));
-        img.setStoredName(storedName);
-        img.setSizeBytes(bytes.length);
+        img.setStoredPath(stored.storedPath());
+        img.setStoredName(stored.storedName());
+        img.setSizeBytes((int) stored.sizeBytes());
         img.setChecksumSha256(checksum);
         imageRepo.save(img);
 
@@ -467,9 +437,13 @@ public class ProductService {
             productRepo.save(p);
         }
         BIZ_LOG.info("IMAGE_REPLACED productId={} imageId={} checksum={} bytes={}",
-                productId, imageId, checksum, bytes.length);
+                productId, imageId, checksum, stored.sizeBytes());
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
+    })
     @Transactional
     public void setPrimaryImage(Long productId, Long imageId) {
         BIZ_LOG.info("PRIMARY_SET_BEGIN productId={} imageId={}", productId, imageId);
@@ -497,6 +471,10 @@ public class ProductService {
         BIZ_LOG.info("PRIMARY_SET productId={} prev={} now={}", productId, prevPrimaryId, imageId);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST, allEntries = true)
+    })
     @Transactional
     public void deleteImage(Long productId, Long imageId) {
         BIZ_LOG.info("IMAGE_DELETE_BEGIN productId={} imageId={}", productId, imageId);
@@ -507,6 +485,7 @@ public class ProductService {
         }
         boolean wasPrimary = img.isPrimaryImage();
         imageRepo.delete(img);
+        deleteFileAfterCommit(img.getStoredPath(), img.getStoredName(), img.getChecksumSha256());
 
         // 대표를 지웠다면 다른 이미지 하나를 대표로 승격 + 상품 메인 갱신
         if (wasPrimary) {
@@ -525,33 +504,47 @@ public class ProductService {
     @Transactional
     public StockAdjustResponse adjustStock(Long productId, int deltaQty) {
         BIZ_LOG.info("STOCK_ADJUST_BEGIN productId={} delta={}", productId, deltaQty);
-        Product p = productRepo.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다. id=" + productId));
-        int before = p.getStockQuantity();
-        int after = before + deltaQty;
-        if (after < 0) {
-            throw new IllegalArgumentException("재고가 음수가 될 수 없습니다. (현재:" + p.getStockQuantity() + ", 변경:" + deltaQty + ")");
-        }
-
-        p.setStockQuantity(after);
-        productRepo.save(p);
+        // 조건부 UPDATE 로 원자적 증감 (동시 주문과 겹쳐도 lost update/음수 재고 없음)
+        int after = stockReservation.adjust(productId, deltaQty);
+        int before = after - deltaQty;
         BIZ_LOG.info("STOCK_ADJUSTED productId={} before={} delta={} after={}", productId, before, deltaQty, after);
-        return new StockAdjustResponse(p.getId(), after);
+        return new StockAdjustResponse(productId, after);
     }
 
     //공개용 목록(검색,페이징)
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_LIST)
     @Transactional(readOnly = true)
     public Page<ProductListItemResponse> listPublic(String q, Pageable pageable) {
+        // 검색어가 있으면 in-memory 역색인(관련도 순)으로 id 를 찾고 해당 상품만 로딩. 한 글자 검색어/색인 준비 전에는 DB LIKE 로 대체
+        if (q != null && !q.isBlank() && searchIndex.isReady() && !NgramTokenizer.queryGrams(q).isEmpty()) {
+            Page<Long> ids = searchIndex.search(q, pageable);
+            Map<Long, Product> byId = new HashMap<>();
+            for (Product p : productRepo.findAllById(ids.getContent())) byId.put(p.getId(), p);
+            List<ProductListItemResponse> rows = ids.getContent().stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull) // 색인 갱신 직전에 삭제된 상품
+                    .map(p -> new ProductListItemResponse(
+                            p.getId(),
+                            p.getName(),
+                            p.getPrice(),
+                            p.getMainImagePath(),
+                            imageVariants.thumbnailUrl(p.getMainImagePath())
+                    ))
+                    .toList();
+            return new PageImpl<>(rows, pageable, ids.getTotalElements());
+        }
         return productRepo.searchPublic(q, pageable)
                 .map(p -> new ProductListItemResponse(
                         p.getId(),
                         p.getName(),
                         p.getPrice(),
-                        p.getMainImagePath()
+                        p.getMainImagePath(),
+                        imageVariants.thumbnailUrl(p.getMainImagePath())
                 ));
     }
 
     // --- 공개용 상세
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#id")
     @Transactional(readOnly = true)
     public ProductDetailResponse detailPublic(Long id) {
         Product p = productRepo.findByIdAndIsDeletedFalse(id)
@@ -568,15 +561,91 @@ public class ProductService {
                 p.getDescription(),
                 p.getStockQuantity(),
                 p.getMainImagePath(),
-                imagePaths
+                imagePaths,
+                variantsOf(p.getMainImagePath()),
+                imagePaths.stream().map(this::variantsOf).toList()
         );
     }
 
-    private static String sha256Hex(byte[] bytes) throws Exception {
-        MessageDigest md = MessageDigest.getInstance("SHA-256");
-        byte[] dig = md.digest(bytes);
-        StringBuilder sb = new StringBuilder();
-        for (byte b : dig) sb.append(String.format("%02x", b));
-        return sb.toString();
+    private ImageVariantsResponse variantsOf(String url) {
+        return url == null ? null : new ImageVariantsResponse(url, imageVariants.variantUrls(url));
+    }
+
+    private static String extensionOf(String contentType) {
+        return switch (Objects.requireNonNull(contentType)) {
+            case "image/jpeg" -> ".jpg";
+            case "image/png"  -> ".png";
+            case "image/webp" -> ".webp";
+            default -> "";
+        };
+    }
+
+    /** 롤백되면 기존 이미지가 그대로 쓰여야 하므로 파일 삭제는 커밋 이후에 (실패해도 무시) */
+    private void deleteFileAfterCommit(String storedPath, String storedName, String checksum) {
+        Runnable delete = () -> deleteIfUnreferenced(storedPath, storedName, checksum);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() { delete.run(); }
+            });
+        } else {
+            delete.run();
+        }
+    }
+
+    /**
+     * 같은 내용의 파일은 여러 업로드가 공유하므로, 커밋된 행이 그 체크섬을 참조하지 않고
+     * 올리는 중인 요청도 없을 때만 파일/축소본을 지운다 (확인과 삭제는 저장소의 체크섬 잠금 안에서).
+     */
+    private void deleteIfUnreferenced(String storedPath, String storedName, String checksum) {
+        try {
+            imageStorage.deleteIfUnreferenced(storedPath, storedName,
+                    () -> checksum != null && imageRepo.existsByChecksumSha256(checksum),
+                    () -> {
+                        try {
+                            imageVariants.deleteVariants(storedPath, storedName);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (Exception e) {
+            BIZ_LOG.warn("IMAGE_FILE_DELETE_FAILED path={}/{} message={}", storedPath, storedName, e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드를 한 번만 읽어 SHA-256 계산 + 저장소 기록 (getBytes()/재읽기 없음).
+     * 트랜잭션이 롤백되고 다른 이미지가 참조하지 않으면 파일을 지운다.
+     */
+    private ImageStorage.StoredImage ingest(MultipartFile file) throws IOException {
+        ImageStorage.StoredImage stored;
+        try (InputStream in = file.getInputStream()) {
+            stored = imageStorage.ingest(in, extensionOf(file.getContentType()));
+        }
+        afterIngest(stored);
+        return stored;
+    }
+
+    /**
+     * 커밋되면 목록/상세용 축소본 생성을 백그라운드 대기열에 넣는다.
+     * 트랜잭션이 끝나면 ingest 가 잡은 체크섬 고정을 풀고, 롤백이면 아무도 참조하지 않는 파일을 지운다.
+     */
+    private void afterIngest(ImageStorage.StoredImage stored) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            imageVariants.submit(stored.storedPath(), stored.storedName());
+            imageStorage.release(stored.sha256());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                imageVariants.submit(stored.storedPath(), stored.storedName());
+            }
+
+            @Override public void afterCompletion(int status) {
+                imageStorage.release(stored.sha256());
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteIfUnreferenced(stored.storedPath(), stored.storedName(), stored.sha256());
+                }
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package com.ijin.hanaro.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRepository {
+
+    private final JdbcTemplate jdbc;
+
+    /**
+     * 여러 상품의 재고를 한 문장으로 조건부 차감한다.
+     * UPDATE products SET stock_quantity = stock_quantity - CASE id WHEN ? THEN ? ... END
+     *  WHERE id IN (...) AND is_deleted = false AND stock_quantity >= CASE id WHEN ? THEN ? ... END
+     * 반환값: 변경된 행 수 (요청 상품 수보다 작으면 일부 상품의 재고가 부족한 것)
+     */
+    public int decrementAll(Map<Long, Integer> qtyByProductId) {
+        if (qtyByProductId.isEmpty()) return 0;
+
+        StringBuilder caseExpr = new StringBuilder("CASE id");
+        List<Object> caseArgs = new ArrayList<>(qtyByProductId.size() * 2);
+        for (Map.Entry<Long, Integer> e : qtyByProductId.entrySet()) {
+            caseExpr.append(" WHEN ? THEN ?");
+            caseArgs.add(e.getKey());
+            caseArgs.add(e.getValue());
+        }
+        caseExpr.append(" END");
+
+        String sql = "UPDATE products SET stock_quantity = stock_quantity - " + caseExpr +
+                " WHERE id IN (" + String.join(", ", Collections.nCopies(qtyByProductId.size(), "?")) + ")" +
+                " AND is_deleted = false" +
+                " AND stock_quantity >= " + caseExpr;
+
+        List<Object> args = new ArrayList<>(caseArgs.size() * 2 + qtyByProductId.size());
+        args.addAll(caseArgs);
+        args.addAll(qtyByProductId.keySet());
+        args.addAll(caseArgs);
+        return jdbc.update(sql, args.toArray());
+    }
+
+    /** 단일 상품 재고 증감. 결과가 음수가 되는 경우 갱신하지 않는다. 반환값: 변경된 행 수(0 또는 1) */
+    public int adjust(Long productId, int deltaQty) {
+        return jdbc.update(
+                "UPDATE products SET stock_quantity = stock_quantity + ? WHERE id = ? AND stock_quantity + ? >= 0",
+                deltaQty, productId, deltaQty);
+    }
+
+    public Optional<Integer> findStock(Long productId) {
+        List<Integer> rows = jdbc.queryForList(
+                "SELECT stock_quantity FROM products WHERE id = ?", Integer.class, productId);
+        return rows.stream().findFirst();
+    }
+
+    /** 요청 수량을 충족하지 못하는 상품 id 목록 (차감 실패 시 원인 파악용) */
+    public List<Long> findShortages(Map<Long, Integer> qtyByProductId) {
+        if (qtyByProductId.isEmpty()) return List.of();
+        List<Map<String, Object>> rows = jdbc.queryForList(
+                "SELECT id, stock_quantity, is_deleted FROM products WHERE id IN (" +
+                        String.join(", ", Collections.nCopies(qtyByProductId.size(), "?")) + ")",
+                qtyByProductId.keySet().toArray());
+        Set<Long> found = new HashSet<>();
+        List<Long> shortages = new ArrayList<>();
+        for (Map<String, Object> r : rows) {
+            Long id = ((Number) r.get("id")).longValue();
+            found.add(id);
+            int stock = ((Number) r.get("stock_quantity")).intValue();
+            boolean deleted = Boolean.TRUE.equals(r.get("is_deleted"))
+                    || (r.get("is_deleted") instanceof Number n && n.intValue() != 0);
+            if (deleted || stock < qtyByProductId.get(id)) shortages.add(id);
+        }
+        for (Long id : qtyByProductId.keySet()) {
+            if (!found.contains(id)) shortages.add(id);
+        }
+        return shortages;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ijin.hanaro.product;
+
+import com.ijin.hanaro.config.CacheConfig;
+import com.ijin.hanaro.journal.BusinessEventJournal;
+import com.ijin.hanaro.journal.JournalEvent;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 예약/조정.
+ * read-modify-write 대신 조건부 UPDATE(stock_quantity >= 요청수량)로 DB 가 원자적으로 판정하므로
+ * 동시 주문/관리자 조정이 겹쳐도 lost update 나 음수 재고가 생기지 않는다.
+ * 재고가 바뀐 상품의 공개 상세 캐시는 여기서 무효화한다(목록 DTO 에는 재고가 없음).
+ */
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final ProductStockRepository stockRepo;
+    private final CacheManager cacheManager;
+    private final BusinessEventJournal journal;
+
+    private static final Logger BIZ_LOG = LoggerFactory.getLogger("business.product");
+
+    /**
+     * 주문 수량만큼 재고를 차감한다. 하나라도 부족하면 IllegalStateException → 호출 트랜잭션 전체 롤백.
+     * 반드시 주문 생성 트랜잭션 안에서 호출되어야 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Map<Long, Integer> qtyByProductId) {
+        int updated = stockRepo.decrementAll(qtyByProductId);
+        if (updated != qtyByProductId.size()) {
+            List<Long> shortages = stockRepo.findShortages(qtyByProductId);
+            BIZ_LOG.warn("STOCK_RESERVE_FAILED requested={} updated={} shortages={}", qtyByProductId, updated, shortages);
+            throw new IllegalStateException("재고 부족: 상품 id=" + shortages);
+        }
+        evictDetail(qtyByProductId.keySet());
+        long now = System.currentTimeMillis();
+        qtyByProductId.forEach((productId, qty) -> journal.record(new JournalEvent.StockAdjusted(
+                now, productId, -qty, JournalEvent.StockAdjusted.UNKNOWN, JournalEvent.StockAdjusted.REASON_ORDER)));
+    }
+
+    /** 관리자 재고 증감. 결과가 음수가 되면 IllegalArgumentException. 반환값: 조정 후 재고 */
+    @Transactional
+    public int adjust(Long productId, int deltaQty) {
+        int updated = stockRepo.adjust(productId, deltaQty);
+        if (updated == 0) {
+            int current = stockRepo.findStock(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다. id=" + productId));
+            throw new IllegalArgumentException("재고가 음수가 될 수 없습니다. (현재:" + current + ", 변경:" + deltaQty + ")");
+        }
+        evictDetail(List.of(productId));
+        // 같은 트랜잭션에서 방금 갱신한 행이므로 다른 트랜잭션의 변경이 끼어들 수 없다
+        int after = stockRepo.findStock(productId).orElseThrow();
+        journal.record(new JournalEvent.StockAdjusted(
+                System.currentTimeMillis(), productId, deltaQty, after, JournalEvent.StockAdjusted.REASON_ADMIN));
+        return after;
+    }
+
+    /** 트랜잭션 인지 캐시이므로 실제 무효화는 커밋 이후에 일어난다 */
+    private void evictDetail(Collection<Long> productIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.PRODUCT_DETAIL);
+        if (cache != null) productIds.forEach(cache::evict);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ijin.hanaro.product.dto;
+
+import java.util.Map;
+
+/**
+ * 원본 URL + 폭별 축소본 URL (srcset 용, 폭 오름차순).
+ * 축소본을 만들 수 없는 이미지(WEBP, 예전 경로)는 widths 가 비어 있다.
+ */
+public record ImageVariantsResponse(
+        String original,
+        Map<Integer, String> widths
+) {}
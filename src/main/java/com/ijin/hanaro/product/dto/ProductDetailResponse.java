@@ -10,5 +10,7 @@ public record ProductDetailResponse(
         String description,
         int stockQuantity,
         String mainImagePath,
-        List<String> imagePaths
-) {}
\ No newline at end of file
+        List<String> imagePaths,
+        ImageVariantsResponse mainImage,     // mainImagePath 의 축소본들
+        List<ImageVariantsResponse> images   // imagePaths 와 같은 순서
+) {}
@@ -6,5 +6,6 @@ public record ProductListItemResponse(
         Long id,
         String name,
         BigDecimal price,
-        String mainImagePath
-) {}
\ No newline at end of file
+        String mainImagePath,
+        String thumbnailPath   // 목록용 가장 작은 축소본 (없으면 mainImagePath)
+) {}
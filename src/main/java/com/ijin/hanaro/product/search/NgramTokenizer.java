@@ -0,0 +1,70 @@
+package com.ijin.hanaro.product.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 상품 검색용 n-gram 토크나이저.
+ * - NFKC 정규화 + 소문자화 후 글자/숫자가 아닌 문자로 단어를 나눈다.
+ * - 단어마다 글자 단위 bigram 을 만든다. 한글은 형태소 분석 없이도 음절 bigram 으로 부분 일치("아이폰" ⊃ "이폰")를 잡을 수 있다.
+ * - 한 글자 단어는 색인하지 않는다. 검색어에 bigram 이 하나도 없으면(예: "폰") 호출 측이 DB 검색으로 대체한다.
+ * - 검색어 끝에 입력 중인 자음/모음(예: "아이ㅍ")은 버린다. NFKC 가 호환 자모(ㅍ)를 첫가끝 자모(U+1111)로 바꾸므로 둘 다 본다.
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {}
+
+    /** 문서용: gram → 출현 횟수 */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> tf = new LinkedHashMap<>();
+        if (text == null || text.isBlank()) return tf;
+        forEachGram(normalize(text), g -> tf.merge(g, 1, Integer::sum));
+        return tf;
+    }
+
+    /** 검색어용: 중복 없는 gram 목록 */
+    public static Set<String> queryGrams(String q) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (q == null) return grams;
+        String n = normalize(q);
+        int end = n.length();
+        while (end > 0 && isJamo(n.charAt(end - 1))) end--;
+        forEachGram(n.substring(0, end), grams::add);
+        return grams;
+    }
+
+    /** 검색어를 후보 검증용 부분 문자열로: 정규화 + 끝의 입력 중 자모 제거 + 앞뒤 공백 제거 */
+    public static String queryText(String q) {
+        if (q == null) return "";
+        String n = normalize(q);
+        int end = n.length();
+        while (end > 0 && isJamo(n.charAt(end - 1))) end--;
+        return n.substring(0, end).strip();
+    }
+
+    static String normalize(String s) {
+        return Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase();
+    }
+
+    private static void forEachGram(String s, Consumer<String> sink) {
+        int i = 0, len = s.length();
+        while (i < len) {
+            while (i < len && !isWordChar(s.charAt(i))) i++;
+            int start = i;
+            while (i < len && isWordChar(s.charAt(i))) i++;
+            for (int k = start; k + 2 <= i; k++) sink.accept(s.substring(k, k + 2));
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isJamo(char c) {
+        return (c >= 'ㄱ' && c <= 'ㆎ') || (c >= '\u1100' && c <= '\u11FF');
+    }
+}
@@ -0,0 +1,4 @@
+package com.ijin.hanaro.product.search;
+
+/** 상품 이름/설명/삭제 상태가 바뀌었음을 알리는 이벤트 (검색 색인 갱신용) */
+public record ProductChangedEvent(Long productId) {}
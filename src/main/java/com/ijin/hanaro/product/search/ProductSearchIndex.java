@@ -0,0 +1,276 @@
+package com.ijin.hanaro.product.search;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 이름/설명 in-memory 역색인.
+ *
+ * - 문서는 내부 순번(ordinal)으로 관리하며, 새 문서는 항상 더 큰 순번을 받으므로 posting 목록은 정렬 상태를 유지한다.
+ * - 수정/삭제는 기존 순번을 tombstone 처리하고(재색인 시 새 순번), 죽은 순번이 산 순번보다 많아지면 압축한다.
+ *   압축은 산 문서를 순서대로 0 부터 다시 번호 매기므로 메모리는 수정 횟수가 아니라 현재 상품 수를 따른다.
+ * - 점수: Σ (gram 가중 빈도 × idf), 이름 일치는 설명보다 NAME_WEIGHT 배 가중.
+ * - bigram 교집합은 후보일 뿐이므로, 정규화한 이름/설명에 검색어 전체가 부분 문자열로 들어 있는 문서만 남긴다
+ *   (DB LIKE 와 같은 결과, 검색어 안의 한 글자 단어도 여기서 확인된다). 설명은 자르지 않고 전체를 색인/검증한다.
+ * - 기동 시 전체 색인(ApplicationReadyEvent), 이후 ProductChangedEvent 커밋 후 단건 재색인.
+ *   재색인은 updateLock 으로 직렬화하고 그 안에서 행을 읽으므로, 동시 수정의 커밋 순서와 관계없이 마지막 커밋 내용이 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final Logger BIZ_LOG = LoggerFactory.getLogger("business.product");
+    private static final int NAME_WEIGHT = 3;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final JdbcTemplate jdbc;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** DB 읽기 + 색인 반영을 한 번에 하나씩 (검색은 막지 않음) */
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final Map<String, Postings> postingsByGram = new HashMap<>();
+    private final Map<Long, Integer> ordinalByProductId = new HashMap<>();
+    private long[] productIdByOrdinal = new long[INITIAL_CAPACITY];
+    /** 후보 검증용 정규화 텍스트 (죽은 순번은 null) */
+    private String[] nameByOrdinal = new String[INITIAL_CAPACITY];
+    private String[] descriptionByOrdinal = new String[INITIAL_CAPACITY];
+    private BitSet live = new BitSet();
+    private int nextOrdinal = 0;
+    private int deadCount = 0;
+    private volatile boolean ready = false;
+
+    /** 색인 준비 전에는 호출 측에서 DB 검색으로 대체해야 한다 */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long t0 = System.currentTimeMillis();
+        int products, grams;
+        updateLock.lock();
+        lock.writeLock().lock();
+        try {
+            clear();
+            jdbc.query("SELECT id, name, description FROM products WHERE is_deleted = false ORDER BY id",
+                    (RowCallbackHandler) rs -> add(rs.getLong("id"), rs.getString("name"), rs.getString("description")));
+            products = ordinalByProductId.size();
+            grams = postingsByGram.size();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+            updateLock.unlock();
+        }
+        BIZ_LOG.info("SEARCH_INDEX_BUILT products={} grams={} tookMs={}", products, grams, System.currentTimeMillis() - t0);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent e) {
+        updateLock.lock();
+        try {
+            // 먼저 커밋된 수정이 나중에 반영되어 최신 내용을 덮어쓰지 않도록 잠금 안에서 읽는다
+            List<Map<String, Object>> rows = jdbc.queryForList(
+                    "SELECT name, description FROM products WHERE id = ? AND is_deleted = false", e.productId());
+            lock.writeLock().lock();
+            try {
+                remove(e.productId());
+                if (!rows.isEmpty()) {
+                    Map<String, Object> r = rows.get(0);
+                    add(e.productId(), (String) r.get("name"), (String) r.get("description"));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /** 관련도 순(동점이면 최신 id 먼저)으로 정렬된 상품 id 페이지 */
+    public Page<Long> search(String q, Pageable pageable) {
+        Set<String> grams = NgramTokenizer.queryGrams(q);
+        if (grams.isEmpty()) return Page.empty(pageable);
+        String text = NgramTokenizer.queryText(q);
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(grams.size());
+            for (String g : grams) {
+                Postings p = postingsByGram.get(g);
+                if (p == null) return Page.empty(pageable);
+                lists.add(p);
+            }
+            lists.sort(Comparator.comparingInt(p -> p.size));
+
+            int liveDocs = ordinalByProductId.size();
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) idf[i] = Math.log(1.0 + (double) liveDocs / lists.get(i).size);
+
+            // 가장 짧은 posting 기준으로 나머지와 교집합 (모두 ordinal 오름차순)
+            Postings first = lists.get(0);
+            int[] cursor = new int[lists.size()];
+            List<long[]> hits = new ArrayList<>(); // [productId, score bits]
+            outer:
+            for (int i = 0; i < first.size; i++) {
+                int ord = first.ordinals[i];
+                if (!live.get(ord)) continue;
+                double score = first.weights[i] * idf[0];
+                for (int l = 1; l < lists.size(); l++) {
+                    Postings p = lists.get(l);
+                    int c = cursor[l];
+                    while (c < p.size && p.ordinals[c] < ord) c++;
+                    cursor[l] = c;
+                    if (c == p.size) break outer;
+                    if (p.ordinals[c] != ord) continue outer;
+                    score += p.weights[c] * idf[l];
+                }
+                if (!contains(ord, text)) continue;
+                hits.add(new long[]{productIdByOrdinal[ord], Double.doubleToLongBits(score)});
+            }
+
+            hits.sort((a, b) -> {
+                int cmp = Double.compare(Double.longBitsToDouble(b[1]), Double.longBitsToDouble(a[1]));
+                return cmp != 0 ? cmp : Long.compare(b[0], a[0]);
+            });
+            int from = (int) Math.min(pageable.getOffset(), hits.size());
+            int to = Math.min(from + pageable.getPageSize(), hits.size());
+            List<Long> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) ids.add(hits.get(i)[0]);
+            return new PageImpl<>(ids, pageable, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean contains(int ord, String text) {
+        String name = nameByOrdinal[ord];
+        String description = descriptionByOrdinal[ord];
+        return (name != null && name.contains(text)) || (description != null && description.contains(text));
+    }
+
+    // ===== 내부 (write lock 보유 상태에서 호출) =====
+
+    void add(long productId, String name, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        NgramTokenizer.termFrequencies(name).forEach((g, tf) -> weights.merge(g, tf * NAME_WEIGHT, Integer::sum));
+        NgramTokenizer.termFrequencies(description).forEach((g, tf) -> weights.merge(g, tf, Integer::sum));
+        int ord = nextOrdinal++;
+        if (ord == productIdByOrdinal.length) {
+            productIdByOrdinal = Arrays.copyOf(productIdByOrdinal, ord * 2);
+            nameByOrdinal = Arrays.copyOf(nameByOrdinal, ord * 2);
+            descriptionByOrdinal = Arrays.copyOf(descriptionByOrdinal, ord * 2);
+        }
+        productIdByOrdinal[ord] = productId;
+        nameByOrdinal[ord] = name == null ? null : NgramTokenizer.normalize(name);
+        descriptionByOrdinal[ord] = description == null ? null : NgramTokenizer.normalize(description);
+        live.set(ord);
+        ordinalByProductId.put(productId, ord);
+        weights.forEach((g, w) -> postingsByGram.computeIfAbsent(g, k -> new Postings()).append(ord, w));
+    }
+
+    void remove(long productId) {
+        Integer ord = ordinalByProductId.remove(productId);
+        if (ord == null) return;
+        live.clear(ord);
+        nameByOrdinal[ord] = null;
+        descriptionByOrdinal[ord] = null;
+        if (++deadCount > ordinalByProductId.size()) compact();
+    }
+
+    /** 산 문서를 기존 순서대로 0.. 으로 다시 번호 매긴다 (posting 의 오름차순 유지) */
+    private void compact() {
+        int liveDocs = ordinalByProductId.size();
+        int[] renumbered = new int[nextOrdinal];
+        int capacity = Math.max(INITIAL_CAPACITY, liveDocs * 2);
+        long[] ids = new long[capacity];
+        String[] names = new String[capacity];
+        String[] descriptions = new String[capacity];
+        int n = 0;
+        for (int ord = live.nextSetBit(0); ord >= 0; ord = live.nextSetBit(ord + 1)) {
+            renumbered[ord] = n;
+            ids[n] = productIdByOrdinal[ord];
+            names[n] = nameByOrdinal[ord];
+            descriptions[n] = descriptionByOrdinal[ord];
+            ordinalByProductId.put(ids[n], n);
+            n++;
+        }
+        Iterator<Postings> it = postingsByGram.values().iterator();
+        while (it.hasNext()) {
+            Postings p = it.next();
+            p.retain(live, renumbered);
+            if (p.size == 0) it.remove();
+        }
+        productIdByOrdinal = ids;
+        nameByOrdinal = names;
+        descriptionByOrdinal = descriptions;
+        live = new BitSet(capacity);
+        live.set(0, n);
+        nextOrdinal = n;
+        deadCount = 0;
+    }
+
+    /** 순번 배열 크기 (테스트용) */
+    int ordinalCapacity() {
+        return productIdByOrdinal.length;
+    }
+
+    private void clear() {
+        postingsByGram.clear();
+        ordinalByProductId.clear();
+        productIdByOrdinal = new long[INITIAL_CAPACITY];
+        nameByOrdinal = new String[INITIAL_CAPACITY];
+        descriptionByOrdinal = new String[INITIAL_CAPACITY];
+        live = new BitSet();
+        nextOrdinal = 0;
+        deadCount = 0;
+    }
+
+    /** gram 하나의 posting 목록 (ordinal 오름차순, 병렬 weight 배열) */
+    private static final class Postings {
+        int[] ordinals = new int[4];
+        int[] weights = new int[4];
+        int size;
+
+        void append(int ord, int weight) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ordinals[size] = ord;
+            weights[size] = weight;
+            size++;
+        }
+
+        /** 산 순번만 남기고 새 번호로 바꾼다. 여유 공간이 크면 배열도 줄인다 */
+        void retain(BitSet live, int[] renumbered) {
+            int w = 0;
+            for (int r = 0; r < size; r++) {
+                if (live.get(ordinals[r])) {
+                    ordinals[w] = renumbered[ordinals[r]];
+                    weights[w] = weights[r];
+                    w++;
+                }
+            }
+            size = w;
+            if (size > 0 && ordinals.length > size * 4) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ijin.hanaro.product.storage;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이트 → 소문자 hex. 바이트 하나당 2글자를 미리 만들어 둔 표에서 복사하므로
+ * String.format("%02x") 처럼 바이트마다 Formatter/String 을 만들지 않는다.
+ */
+public final class HexEncoder {
+
+    private static final byte[] DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TABLE = new byte[512];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            TABLE[i * 2] = DIGITS[i >>> 4];
+            TABLE[i * 2 + 1] = DIGITS[i & 0x0f];
+        }
+    }
+
+    private HexEncoder() {}
+
+    public static String encode(byte[] bytes) {
+        byte[] out = new byte[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int t = (bytes[i] & 0xff) * 2;
+            out[i * 2] = TABLE[t];
+            out[i * 2 + 1] = TABLE[t + 1];
+        }
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+}
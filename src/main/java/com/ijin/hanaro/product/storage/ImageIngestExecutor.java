@@ -0,0 +1,115 @@
+package com.ijin.hanaro.product.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 여러 장 업로드의 읽기/해시/파일 쓰기를 고정 크기 풀에서 동시에 처리한다.
+ * 대기열이 가득 차면 호출 스레드가 직접 처리하므로(CallerRunsPolicy) 폭주 시에는 순차 처리로 자연스럽게 느려진다.
+ * DB 작업은 하지 않는다 (트랜잭션은 호출 스레드에만 있음).
+ */
+@Component
+public class ImageIngestExecutor {
+
+    private final ImageStorage imageStorage;
+    private final ThreadPoolExecutor executor;
+    private final boolean parallel;
+    private final Timer batchTimer;
+
+    public ImageIngestExecutor(ImageStorage imageStorage,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.upload.ingest.parallel:true}") boolean parallel,
+                               @Value("${app.upload.ingest.threads:4}") int threads,
+                               @Value("${app.upload.ingest.queueCapacity:64}") int queueCapacity) {
+        this.imageStorage = imageStorage;
+        this.parallel = parallel;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-ingest-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.batchTimer = Timer.builder("product.image.ingest.time")
+                .description("여러 장 업로드 1건의 파일 저장(읽기+해시+쓰기) 시간")
+                .tag("mode", parallel ? "parallel" : "sequential")
+                .register(meterRegistry);
+    }
+
+    /**
+     * files 를 순서대로 대응하는 StoredImage 목록으로 저장한다.
+     * onStored 는 성공한 파일마다 호출 스레드에서 불린다 (일부가 실패해도 성공한 것은 모두 전달한 뒤 첫 실패를 던진다).
+     */
+    public List<ImageStorage.StoredImage> ingestAll(List<MultipartFile> files,
+                                                     Function<MultipartFile, String> extension,
+                                                     Consumer<ImageStorage.StoredImage> onStored) throws IOException {
+        long t0 = System.nanoTime();
+        try {
+            if (!parallel || files.size() < 2) {
+                List<ImageStorage.StoredImage> result = new ArrayList<>(files.size());
+                for (MultipartFile f : files) {
+                    ImageStorage.StoredImage s = ingest(f, extension.apply(f));
+                    onStored.accept(s);
+                    result.add(s);
+                }
+                return result;
+            }
+
+            List<CompletableFuture<ImageStorage.StoredImage>> futures = new ArrayList<>(files.size());
+            for (MultipartFile f : files) {
+                String ext = extension.apply(f);
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return ingest(f, ext);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor));
+            }
+            List<ImageStorage.StoredImage> result = new ArrayList<>(files.size());
+            Throwable failure = null;
+            for (CompletableFuture<ImageStorage.StoredImage> f : futures) {
+                try {
+                    ImageStorage.StoredImage s = f.join();
+                    onStored.accept(s);
+                    result.add(s);
+                } catch (CompletionException e) {
+                    if (failure == null) failure = e.getCause();
+                }
+            }
+            if (failure instanceof UncheckedIOException io) throw io.getCause();
+            if (failure instanceof RuntimeException re) throw re;
+            if (failure != null) throw new IllegalStateException(failure);
+            return result;
+        } finally {
+            batchTimer.record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ImageStorage.StoredImage ingest(MultipartFile file, String ext) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return imageStorage.ingest(in, ext);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.ijin.hanaro.product.storage;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 내용 주소 이미지(/upload/ab/cd/{sha256}.ext) 전용 제공 경로.
+ * - 파일명이 곧 SHA-256 이므로 강한 ETag 로 쓰고, 내용이 바뀌지 않으니 1년 immutable 캐시를 준다.
+ * - 같은 디렉터리의 축소본({sha256}_w{폭}.ext, ImageVariants)도 같은 방식으로 제공한다.
+ * - If-None-Match 의 ETag 가 맞으면 디스크를 보지 않고 바로 304 (ETag 가 곧 내용이므로).
+ *   "*" 는 "어떤 표현이든 있으면" 이라는 뜻이라 파일이 있을 때만 304.
+ * - 단일 Range(bytes=a-b, a-, -n) 지원. 다중 Range 는 무시하고 전체를 보낸다.
+ * - 본문은 Tomcat sendfile(커널 zero-copy)로 넘기고, 지원하지 않는 컨테이너에서는 FileChannel.transferTo 로 보낸다.
+ * 예전 날짜 경로(/upload/yyyy/MM/dd/...)는 WebConfig 의 리소스 핸들러가 그대로 처리한다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageServingController {
+
+    static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStorage imageStorage;
+    private final ImageVariantGenerator variantGenerator;
+
+    @Operation(summary = "상품 이미지 제공(내용 주소)",
+            description = "ETag=SHA-256(+폭), Cache-Control immutable, If-None-Match 304, 단일 Range 206 지원. "
+                    + "아직 없는 축소본(_w{폭})은 생성을 예약하고 원본으로 302")
+    @GetMapping(ImageStorage.URL_PREFIX + "/{s1:[0-9a-f]{2}}/{s2:[0-9a-f]{2}}/{file:[0-9a-f]{64}(?:_w[0-9]{1,4})?\\.(?:jpg|png|webp)}")
+    public void serve(@PathVariable String s1, @PathVariable String s2, @PathVariable String file,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String sha = file.substring(0, 64);
+        if (!sha.startsWith(s1 + s2)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String storedPath = ImageStorage.URL_PREFIX + "/" + s1 + "/" + s2;
+        // 원본은 "{sha}", 축소본은 "{sha}_w{폭}" (둘 다 내용이 바뀌지 않음)
+        String etag = "\"" + file.substring(0, file.lastIndexOf('.')) + "\"";
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (matches(ifNoneMatch, etag)) {
+            setCacheHeaders(response, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        Path path = imageStorage.resolve(storedPath, file);
+        long length;
+        try {
+            length = Files.size(path);
+        } catch (NoSuchFileException e) {
+            redirectToOriginalOrNotFound(storedPath, file, response);
+            return;
+        }
+        setCacheHeaders(response, etag);
+        if (isWildcard(ifNoneMatch)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] r = parseRange(range, length);
+            if (r == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (r.length == 2) {
+                start = r[0];
+                end = r[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        long count = end - start + 1;
+        response.setContentType(contentType(file));
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) return;
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long pos = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long n = ch.transferTo(pos, remaining, out);
+                if (n <= 0) break; // 파일이 줄어든 경우 (내용 주소 파일은 바뀌지 않으므로 정상적으로는 없음)
+                pos += n;
+                remaining -= n;
+            }
+        }
+    }
+
+    private static void setCacheHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    }
+
+    /**
+     * 축소본이 아직 없으면(생성 대기 중/대기열 초과로 버려짐/기능 도입 전 업로드) 생성을 예약하고 원본으로 돌려보낸다.
+     * 리다이렉트는 캐시하지 않게 해 다음 요청부터 축소본을 받게 한다. 설정에 없는 폭은 만들지 않는다.
+     */
+    private void redirectToOriginalOrNotFound(String storedPath, String file, HttpServletResponse response) {
+        ImageVariants.Variant variant = ImageVariants.parseVariant(file);
+        if (variant == null || !variantGenerator.isConfiguredWidth(variant.width())
+                || !Files.exists(imageStorage.resolve(storedPath, variant.originalName()))) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        variantGenerator.submit(storedPath, variant.originalName());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setHeader(HttpHeaders.LOCATION, storedPath + "/" + variant.originalName());
+        response.setStatus(HttpServletResponse.SC_FOUND);
+    }
+
+    /** If-None-Match: 쉼표로 구분된 ETag 목록 (약한 비교). "*" 는 파일 확인 뒤 isWildcard 로 따로 본다 */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String c = candidate.trim();
+            if (c.startsWith("W/")) c = c.substring(2);
+            if (c.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    static boolean isWildcard(String ifNoneMatch) {
+        return ifNoneMatch != null && ifNoneMatch.trim().equals("*");
+    }
+
+    /**
+     * 반환: {start, end} 단일 범위, 빈 배열이면 Range 무시(전체 전송), null 이면 416.
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) return new long[0];
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return new long[0];
+        try {
+            String a = spec.substring(0, dash).trim();
+            String b = spec.substring(dash + 1).trim();
+            if (a.isEmpty()) {                       // bytes=-n : 마지막 n 바이트
+                if (b.isEmpty()) return new long[0];
+                long n = Long.parseLong(b);
+                if (n <= 0 || length == 0) return null;
+                return new long[]{Math.max(0, length - n), length - 1};
+            }
+            long start = Long.parseLong(a);
+            long end = b.isEmpty() ? length - 1 : Math.min(Long.parseLong(b), length - 1);
+            if (start >= length || start > end) return null;
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private static String contentType(String file) {
+        if (file.endsWith(".png")) return "image/png";
+        if (file.endsWith(".webp")) return "image/webp";
+        return "image/jpeg";
+    }
+}
@@ -0,0 +1,49 @@
+package com.ijin.hanaro.product.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 상품 이미지 파일 저장소.
+ * 내용(SHA-256) 기반 주소를 쓰므로 같은 내용은 한 번만 저장되고, 저장된 파일은 바뀌지 않는다.
+ */
+public interface ImageStorage {
+
+    /** 공개 URL 접두사. storedPath 는 항상 이 값으로 시작한다 (WebConfig 의 /upload/**) */
+    String URL_PREFIX = "/upload";
+
+    /**
+     * 업로드 스트림을 한 번만 읽으며 SHA-256 계산과 임시 파일 기록을 함께 하고, 끝나면 체크섬 이름으로 원자적으로 옮긴다.
+     * 같은 내용이 이미 있으면 임시 파일만 지운다 (deduplicated=true). in 은 닫는다.
+     * 반환된 체크섬은 release 할 때까지 고정되어 deleteIfUnreferenced 로 지워지지 않는다 (업로드 트랜잭션이 끝나면 release).
+     */
+    StoredImage ingest(InputStream in, String ext) throws IOException;
+
+    /** 제공 경로 밖(루트와 같은 파일시스템)의 빈 임시 파일. 다 쓴 뒤 resolve 한 위치로 원자적으로 옮기는 용도 */
+    Path createStagingFile(String suffix) throws IOException;
+
+    /** ProductImage.storedPath/storedName → 실제 파일 경로 (저장소 밖을 가리키면 IllegalArgumentException) */
+    Path resolve(String storedPath, String storedName);
+
+    /** 파일 삭제 (없으면 false) */
+    boolean delete(String storedPath, String storedName) throws IOException;
+
+    /** ingest 가 잡은 체크섬 고정을 하나 푼다 */
+    void release(String sha256Hex);
+
+    /**
+     * 공유 파일을 안전하게 지운다: 고정 중인 업로드가 없고 referenced 가 false 일 때만 지우고 onDeleted 를 실행한다.
+     * 확인부터 onDeleted 까지 같은 체크섬의 ingest 와 배타적으로 실행된다. 지웠으면 true.
+     */
+    boolean deleteIfUnreferenced(String storedPath, String storedName,
+                                 BooleanSupplier referenced, Runnable onDeleted) throws IOException;
+
+    /** storedPath: "/upload/ab/cd", storedName: "{sha256}.jpg" */
+    record StoredImage(String storedPath, String storedName, String sha256, long sizeBytes, boolean deduplicated) {
+        public String url() {
+            return storedPath + "/" + storedName;
+        }
+    }
+}
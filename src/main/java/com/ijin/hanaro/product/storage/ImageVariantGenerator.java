@@ -0,0 +1,254 @@
+package com.ijin.hanaro.product.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 원본 이미지의 고정 폭 축소본(app.upload.variants.widths)을 백그라운드에서 만든다. JDK ImageIO/Java2D 만 사용.
+ * - 고정 크기 풀 + 유한 대기열. 가득 차면 버리고(dropped) 축소본이 처음 요청될 때 다시 만든다 (ImageServingController).
+ * - 같은 원본에 대한 작업이 이미 대기/진행 중이면 다시 넣지 않는다.
+ * - 원본보다 넓은 폭은 확대하지 않고 원본을 그대로 복사해 둔다 (URL 규칙을 단순하게 유지).
+ * - 결과는 같은 디렉터리 임시 파일에 다 쓴 뒤 rename 하므로 읽는 쪽은 완전한 파일만 본다.
+ */
+@Component
+public class ImageVariantGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantGenerator.class);
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final ImageStorage imageStorage;
+    private final int[] widths;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final Timer generateTimer;
+    private final Counter generated;
+    private final Counter failed;
+    private final Counter dropped;
+
+    public ImageVariantGenerator(ImageStorage imageStorage,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.upload.variants.widths:320,640}") int[] widths,
+                                 @Value("${app.upload.variants.threads:2}") int threads,
+                                 @Value("${app.upload.variants.queueCapacity:256}") int queueCapacity,
+                                 @Value("${app.upload.variants.maxPixels:40000000}") long maxPixels) {
+        this.imageStorage = imageStorage;
+        this.widths = Arrays.stream(widths).filter(w -> w > 0).sorted().distinct().toArray();
+        this.maxPixels = maxPixels;
+        // 디스크 캐시 파일 없이 메모리에서만 디코딩/인코딩
+        ImageIO.setUseCache(false);
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.generateTimer = Timer.builder("product.image.variant.time")
+                .description("원본 1장의 축소본 전체 생성 시간")
+                .register(meterRegistry);
+        this.generated = Counter.builder("product.image.variant.generated")
+                .description("생성한 축소본 파일 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("product.image.variant.failed")
+                .description("축소본 생성에 실패한 원본 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("product.image.variant.dropped")
+                .description("대기열 초과로 버린 생성 요청 수 (첫 요청 시 다시 생성)")
+                .register(meterRegistry);
+        Gauge.builder("product.image.variant.queue.depth", executor, e -> e.getQueue().size())
+                .description("축소본 생성 대기 중인 원본 수")
+                .register(meterRegistry);
+    }
+
+    /** 설정된 폭 (오름차순) */
+    public int[] widths() {
+        return widths.clone();
+    }
+
+    public boolean isConfiguredWidth(int width) {
+        return Arrays.binarySearch(widths, width) >= 0;
+    }
+
+    /** 폭 → 축소본 URL (오름차순). 축소본을 만들 수 없는 원본이면 빈 맵 */
+    public Map<Integer, String> variantUrls(String originalUrl) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (int w : widths) {
+            String url = ImageVariants.variantUrl(originalUrl, w);
+            if (url == null) return Map.of();
+            urls.put(w, url);
+        }
+        return urls;
+    }
+
+    /** 목록용 썸네일 URL: 가장 작은 축소본, 없으면 원본 */
+    public String thumbnailUrl(String originalUrl) {
+        if (widths.length == 0) return originalUrl;
+        String url = ImageVariants.variantUrl(originalUrl, widths[0]);
+        return url != null ? url : originalUrl;
+    }
+
+    /** 축소본 생성을 대기열에 넣는다. 대상이 아니거나 이미 대기 중이면 무시, 가득 차면 버린다 */
+    public void submit(String storedPath, String storedName) {
+        if (widths.length == 0 || !ImageVariants.supports(storedName)) return;
+        String key = storedPath + "/" + storedName;
+        if (!pending.add(key)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    generateTimer.record(() -> generate(storedPath, storedName));
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+            dropped.increment();
+        }
+    }
+
+    /** 원본과 함께 지울 축소본 파일들 */
+    public void deleteVariants(String storedPath, String storedName) throws IOException {
+        if (!ImageVariants.supports(storedName)) return;
+        for (int w : widths) {
+            imageStorage.delete(storedPath, ImageVariants.variantName(storedName, w));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void generate(String storedPath, String storedName) {
+        Path original = imageStorage.resolve(storedPath, storedName);
+        try {
+            List<Integer> missing = new ArrayList<>();
+            for (int w : widths) {
+                if (!Files.exists(imageStorage.resolve(storedPath, ImageVariants.variantName(storedName, w)))) missing.add(w);
+            }
+            if (missing.isEmpty() || !Files.exists(original)) return;
+
+            BufferedImage src = read(original);
+            if (src == null) {
+                failed.increment();
+                return;
+            }
+            boolean png = storedName.endsWith(".png");
+            for (int w : missing) {
+                Path target = imageStorage.resolve(storedPath, ImageVariants.variantName(storedName, w));
+                Path tmp = imageStorage.createStagingFile(png ? ".png" : ".jpg");
+                try {
+                    if (w >= src.getWidth()) {
+                        Files.copy(original, tmp, StandardCopyOption.REPLACE_EXISTING);
+                    } else {
+                        write(scale(src, w, png), tmp, png);
+                    }
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                    generated.increment();
+                } catch (FileAlreadyExistsException e) {
+                    // 다른 작업이 먼저 만든 경우: 내용이 같으므로 그대로 쓴다
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("IMAGE_VARIANT_FAILED path={}/{} message={}", storedPath, storedName, e.getMessage());
+        }
+    }
+
+    /** 픽셀 수가 maxPixels 를 넘는 이미지(압축 폭탄)는 디코딩하지 않는다 */
+    private BufferedImage read(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    log.warn("IMAGE_VARIANT_SKIPPED_TOO_LARGE path={} width={} height={}",
+                            file, reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 폭 width 로 축소 (비율 유지). 한 번에 크게 줄이면 bilinear 라도 계단 현상이 생기므로
+     * 목표 폭의 2배 이하가 될 때까지 절반씩 줄인 뒤 마지막에 맞춘다.
+     */
+    static BufferedImage scale(BufferedImage src, int width, boolean keepAlpha) {
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = src;
+        int w = src.getWidth();
+        do {
+            w = Math.max(width, w / 2);
+            int h = Math.max(1, (int) Math.round((double) src.getHeight() * w / src.getWidth()));
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                if (!keepAlpha) {
+                    // JPEG 은 알파가 없으므로 투명 영역은 흰색으로
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, w, h);
+                }
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != width);
+        return current;
+    }
+
+    private static void write(BufferedImage image, Path file, boolean png) throws IOException {
+        if (png) {
+            if (!ImageIO.write(image, "png", file.toFile())) throw new IOException("PNG writer 없음");
+            return;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
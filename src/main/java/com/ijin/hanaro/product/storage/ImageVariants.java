@@ -0,0 +1,51 @@
+package com.ijin.hanaro.product.storage;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 원본 옆에 두는 고정 폭 축소본(variant)의 이름 규칙.
+ * 원본 /upload/ab/cd/{sha256}.jpg → 폭 320 축소본 /upload/ab/cd/{sha256}_w320.jpg
+ * 이름이 원본 체크섬 + 폭으로 정해지므로 URL 만으로 계산할 수 있고, 원본처럼 바뀌지 않는다.
+ * ImageIO 가 기본으로 읽고 쓰는 JPEG/PNG 만 대상 (WEBP 는 원본 그대로 사용).
+ */
+public final class ImageVariants {
+
+    /** 원본(내용 주소) 파일명: {sha256}.jpg|png */
+    private static final Pattern ORIGINAL = Pattern.compile("([0-9a-f]{64})(\\.(?:jpg|png))");
+    /** 축소본 파일명: {sha256}_w{폭}.jpg|png */
+    private static final Pattern VARIANT = Pattern.compile("([0-9a-f]{64})_w([0-9]{1,4})(\\.(?:jpg|png))");
+
+    private ImageVariants() {}
+
+    /** 축소본을 만들 수 있는 원본 파일명인지 (예전 날짜 경로/UUID 이름, WEBP 는 false) */
+    public static boolean supports(String storedName) {
+        return storedName != null && ORIGINAL.matcher(storedName).matches();
+    }
+
+    /** {sha256}.jpg → {sha256}_w{width}.jpg */
+    public static String variantName(String storedName, int width) {
+        Matcher m = ORIGINAL.matcher(storedName);
+        if (!m.matches()) throw new IllegalArgumentException("축소본을 만들 수 없는 이미지입니다: " + storedName);
+        return m.group(1) + "_w" + width + m.group(2);
+    }
+
+    /** 원본 URL(/upload/ab/cd/{sha256}.jpg) → 축소본 URL. 대상이 아니면 null */
+    public static String variantUrl(String originalUrl, int width) {
+        if (originalUrl == null) return null;
+        int slash = originalUrl.lastIndexOf('/');
+        if (slash < 0 || !originalUrl.startsWith(ImageStorage.URL_PREFIX + "/")) return null;
+        String name = originalUrl.substring(slash + 1);
+        if (!supports(name)) return null;
+        return originalUrl.substring(0, slash + 1) + variantName(name, width);
+    }
+
+    /** 축소본 파일명이면 (원본 파일명, 폭), 아니면 null */
+    static Variant parseVariant(String fileName) {
+        Matcher m = VARIANT.matcher(fileName);
+        if (!m.matches()) return null;
+        return new Variant(m.group(1) + m.group(3), Integer.parseInt(m.group(2)));
+    }
+
+    record Variant(String originalName, int width) {}
+}
@@ -0,0 +1,205 @@
+package com.ijin.hanaro.product.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 디스크 내용 주소 저장소: {app.upload.root}/{sha[0..2]}/{sha[2..4]}/{sha}{ext}
+ * - 디렉터리를 체크섬 앞 4자리로 2단 분할해 한 디렉터리에 파일이 몰리지 않게 한다 (최대 65,536 디렉터리).
+ * - 임시 파일은 /upload/** 로 제공되지 않는 staging 디렉터리(기본값 {root}.staging, 루트와 같은 파일시스템)에 다 쓴 뒤
+ *   rename 하므로, 읽는 쪽은 완전한 파일만 보게 된다.
+ * - 이미 같은 이름(=같은 내용)의 파일이 있으면 쓰지 않는다.
+ * - 같은 파일을 여러 업로드가 공유하므로, ingest 한 체크섬은 release 전까지 고정(pin)하고
+ *   deleteIfUnreferenced 는 고정이 없고 참조도 없을 때만 지운다. 둘은 체크섬별 잠금으로 서로 배타적이다
+ *   (저장소가 노드의 로컬 디스크이므로 프로세스 안의 잠금으로 충분하다).
+ */
+@Component
+public class LocalImageStorage implements ImageStorage {
+
+    private static final Pattern EXT = Pattern.compile("(\\.[a-z0-9]{1,8})?");
+    /** 내용 주소 파일명({sha256}{ext}) 에서 체크섬 부분 */
+    private static final Pattern CONTENT_NAME = Pattern.compile("([0-9a-f]{64})[^/]*");
+    private static final int BUFFER = 16 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    /** 임시 파일 위치. 제공 경로(root) 밖, rename 이 원자적이도록 root 와 같은 파일시스템 */
+    private final Path staging;
+    private volatile boolean stagingChecked;
+    /** 체크섬별 고정 수 (ingest 후 아직 release 되지 않은 업로드). 체크섬의 잠금 안에서만 바꾼다 */
+    private final Map<String, Integer> pins = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public LocalImageStorage(@Value("${app.upload.root}") String root,
+                             @Value("${app.upload.staging:}") String staging) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.staging = staging == null || staging.isBlank()
+                ? this.root.resolveSibling(this.root.getFileName() + ".staging")
+                : Path.of(staging).toAbsolutePath().normalize();
+        if (this.staging.startsWith(this.root)) {
+            throw new IllegalArgumentException("임시 디렉터리는 업로드 루트(/upload/** 로 제공) 밖이어야 합니다: " + this.staging);
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new ReentrantLock();
+    }
+
+    @Override
+    public StoredImage ingest(InputStream in, String ext) throws IOException {
+        checkExt(ext);
+        Path tmp = Files.createTempFile(stagingDir(), "ingest-", ext);
+        try {
+            MessageDigest md = sha256();
+            long size = 0;
+            byte[] buf = new byte[BUFFER];
+            try (DigestInputStream din = new DigestInputStream(in, md);
+                 OutputStream out = Files.newOutputStream(tmp, StandardOpenOption.WRITE)) {
+                int n;
+                while ((n = din.read(buf)) != -1) {
+                    out.write(buf, 0, n);
+                    size += n;
+                }
+            }
+            return commit(tmp, HexEncoder.encode(md.digest()), ext, size);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Path createStagingFile(String suffix) throws IOException {
+        return Files.createTempFile(stagingDir(), ".tmp-", suffix);
+    }
+
+    @Override
+    public Path resolve(String storedPath, String storedName) {
+        String rel = (storedPath + "/" + storedName).replaceFirst("^/?upload/?", "");
+        Path path = root.resolve(rel).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("저장소 밖의 경로입니다: " + storedPath + "/" + storedName);
+        }
+        return path;
+    }
+
+    @Override
+    public boolean delete(String storedPath, String storedName) throws IOException {
+        return Files.deleteIfExists(resolve(storedPath, storedName));
+    }
+
+    @Override
+    public void release(String sha256Hex) {
+        ReentrantLock lock = lockFor(sha256Hex);
+        lock.lock();
+        try {
+            pins.computeIfPresent(sha256Hex, (k, n) -> n == 1 ? null : n - 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteIfUnreferenced(String storedPath, String storedName,
+                                        BooleanSupplier referenced, Runnable onDeleted) throws IOException {
+        Path path = resolve(storedPath, storedName);
+        Matcher m = CONTENT_NAME.matcher(storedName);
+        // 예전 날짜 경로 파일은 행마다 이름이 달라 공유되지 않으므로 이름 자체로 잠근다
+        String key = m.matches() ? m.group(1) : storedName;
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            if (pins.containsKey(key) || referenced.getAsBoolean()) return false;
+            boolean deleted = Files.deleteIfExists(path);
+            onDeleted.run();
+            return deleted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다 쓴 임시 파일을 체크섬 이름으로 옮기고 체크섬을 고정한다. 이미 있으면 옮기지 않는다 (임시 파일은 호출 측에서 지움).
+     * 존재 확인과 고정을 같은 잠금 안에서 하므로, 확인 직후 deleteIfUnreferenced 가 파일을 지우는 일은 없다.
+     */
+    private StoredImage commit(Path tmp, String sha256Hex, String ext, long size) throws IOException {
+        ReentrantLock lock = lockFor(sha256Hex);
+        lock.lock();
+        try {
+            StoredImage stored = move(tmp, sha256Hex, ext, size);
+            pins.merge(sha256Hex, 1, Integer::sum);
+            return stored;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private StoredImage move(Path tmp, String sha256Hex, String ext, long size) throws IOException {
+        Path target = target(sha256Hex, ext);
+        if (Files.exists(target)) {
+            return stored(sha256Hex, ext, size, true);
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            // 같은 내용을 동시에 올린 쪽이 먼저 rename 했더라도 내용이 같으므로 덮어써도 무방하다
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // rename 이 대상 교체를 허용하지 않는 플랫폼: 먼저 쓴 쪽의 파일을 그대로 쓴다
+            return stored(sha256Hex, ext, size, true);
+        }
+        return stored(sha256Hex, ext, size, false);
+    }
+
+    /** 처음 쓸 때 디렉터리를 만들고 루트와 같은 파일시스템인지 확인한다 (다르면 rename 이 원자적이지 않음) */
+    private Path stagingDir() throws IOException {
+        if (!stagingChecked) {
+            Files.createDirectories(root);
+            Files.createDirectories(staging);
+            if (!Files.getFileStore(root).equals(Files.getFileStore(staging))) {
+                throw new IllegalStateException("임시 디렉터리가 업로드 루트와 다른 파일시스템에 있습니다: " + staging);
+            }
+            stagingChecked = true;
+        }
+        return staging;
+    }
+
+    private ReentrantLock lockFor(String key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+
+    private Path target(String sha256Hex, String ext) {
+        return root.resolve(shard(sha256Hex)).resolve(sha256Hex + ext);
+    }
+
+    private static StoredImage stored(String sha256Hex, String ext, long size, boolean deduplicated) {
+        return new StoredImage(URL_PREFIX + "/" + shard(sha256Hex), sha256Hex + ext, sha256Hex, size, deduplicated);
+    }
+
+    private static String shard(String sha256Hex) {
+        return sha256Hex.substring(0, 2) + "/" + sha256Hex.substring(2, 4);
+    }
+
+    private static void checkExt(String ext) {
+        if (ext == null || !EXT.matcher(ext).matches()) {
+            throw new IllegalArgumentException("잘못된 확장자입니다: " + ext);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ijin.hanaro.scheduling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * 이 프로세스의 식별자. 스케줄 작업 임대(scheduler_lease.owner)와 백필 작업 소유자(stats_backfill_job.owner)에 쓴다.
+ * app.node.id 를 비우면 호스트명:pid:임의값 (같은 호스트에서 재시작한 프로세스도 이전 프로세스와 구분된다).
+ */
+@Component
+public class NodeId {
+
+    private final String value;
+
+    public NodeId(@Value("${app.node.id:}") String configured) {
+        this.value = configured == null || configured.isBlank() ? generate() : configured;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    private static String generate() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
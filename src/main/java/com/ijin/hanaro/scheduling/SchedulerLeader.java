@@ -0,0 +1,177 @@
+package com.ijin.hanaro.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 여러 노드에서 같은 @Scheduled 작업이 동시에 도는 것을 막는 DB 임대 기반 리더 선출.
+ * - 작업 이름마다 scheduler_lease 행 하나. 임대를 가진 노드(리더)만 작업을 실행하고 나머지는 그 틱을 건너뛴다.
+ * - 리더는 실행할 때와 renewIntervalMs 마다 임대를 연장한다. 노드가 죽으면 ttlMs 뒤 다른 노드가 인수하며 token 이 1 늘어난다.
+ * - 실행 후 임대를 놓지 않는다 (놓으면 같은 틱에 다른 노드가 다시 실행할 수 있음).
+ * - 작업은 Fence 를 받아 쓰기 전에 check() 로 아직 리더인지 확인한다. 트랜잭션 안의 check() 는 임대 행을 공유 잠금해
+ *   커밋 전까지 다른 노드가 인수하지 못하게 한다 (GC 멈춤 등으로 임대가 끝난 옛 리더의 쓰기가 새 리더와 겹치지 않도록).
+ * app.scheduler.lease.enabled=false 면 단일 노드로 보고 항상 실행한다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeader {
+
+    private final SchedulerLeaseRepository leases;
+    private final TransactionTemplate ownTx;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+    private final boolean enabled;
+    private final long ttlMs;
+
+    /** 작업 이름 → 가지고 있다고 믿는 임대의 token */
+    private final Map<String, Long> held = new ConcurrentHashMap<>();
+    private final Counter lost;
+
+    public SchedulerLeader(SchedulerLeaseRepository leases,
+                           PlatformTransactionManager txManager,
+                           MeterRegistry meterRegistry,
+                           NodeId nodeId,
+                           @Value("${app.scheduler.lease.enabled:true}") boolean enabled,
+                           @Value("${app.scheduler.lease.ttlMs:60000}") long ttlMs) {
+        this.leases = leases;
+        // 임대 획득/연장은 작업 트랜잭션을 잠시 내려놓고 문장마다 autocommit 으로 실행한다
+        // (INSERT IGNORE 의 중복 키 공유 잠금을 다음 UPDATE 까지 쥐고 있으면 동시에 시도한 노드끼리 교착될 수 있음)
+        this.ownTx = new TransactionTemplate(txManager);
+        this.ownTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.meterRegistry = meterRegistry;
+        this.owner = nodeId.value();
+        this.enabled = enabled;
+        this.ttlMs = ttlMs;
+        if (ttlMs <= 0) throw new IllegalArgumentException("app.scheduler.lease.ttlMs 는 0보다 커야 합니다: " + ttlMs);
+
+        this.lost = Counter.builder("scheduler.lease.lost")
+                .description("연장에 실패해 잃은 임대 수")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.lease.held", held, Map::size)
+                .description("이 노드가 가진 작업 임대 수")
+                .register(meterRegistry);
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    /**
+     * 이 노드가 job 의 리더면 task 를 실행하고 true, 아니면 실행하지 않고 false.
+     * 임대 획득/연장에 DB 오류가 나면 실행하지 않는다 (두 노드가 동시에 도는 것보다 한 틱을 건너뛰는 편이 안전).
+     */
+    public boolean runIfLeader(String job, Consumer<Fence> task) {
+        if (!enabled) {
+            task.accept(Fence.UNFENCED);
+            return true;
+        }
+        Long token;
+        try {
+            token = ownTx.execute(s -> leases.tryAcquire(job, owner, ttlMs));
+        } catch (RuntimeException e) {
+            log.warn("[SchedulerLeader] {} 임대 확인 실패, 이번 실행은 건너뜀: {}", job, e.getMessage());
+            token = null;
+        }
+        if (token == null) {
+            if (held.remove(job) != null) lost.increment();
+            count(job, "skipped");
+            return false;
+        }
+        Long previous = held.put(job, token);
+        if (!token.equals(previous)) {
+            log.info("[SchedulerLeader] {} 리더 획득 owner={} token={}", job, owner, token);
+        }
+        count(job, "executed");
+        task.accept(new Fence(this, job, token));
+        return true;
+    }
+
+    /** 실행 사이에도 임대가 끊기지 않도록 가진 임대를 모두 연장 (ttlMs 보다 충분히 짧게) */
+    @Scheduled(fixedDelayString = "${app.scheduler.lease.renewIntervalMs:20000}")
+    public void renewHeld() {
+        for (String job : held.keySet()) {
+            Long token;
+            try {
+                token = ownTx.execute(s -> leases.tryAcquire(job, owner, ttlMs));
+            } catch (RuntimeException e) {
+                log.warn("[SchedulerLeader] {} 임대 연장 실패: {}", job, e.getMessage());
+                continue; // 다음 주기나 다음 실행에서 다시 시도, 그 전에 만료되면 다른 노드가 인수
+            }
+            Long previous = held.get(job);
+            if (token == null || !token.equals(previous)) {
+                // 없으면 다른 노드가 인수, token 이 다르면 만료 뒤 새 임기 (옛 Fence 는 무효)
+                lost.increment();
+                log.info("[SchedulerLeader] {} 리더 임기 종료 owner={} token={} -> {}", job, owner, previous, token);
+                if (token == null) held.remove(job);
+                else held.put(job, token);
+            }
+        }
+    }
+
+    /** 종료 시 임대를 바로 만료시켜 다른 노드가 ttl 을 기다리지 않고 인수하게 한다 */
+    @PreDestroy
+    public void releaseAll() {
+        held.forEach((job, token) -> {
+            try {
+                ownTx.executeWithoutResult(s -> leases.release(job, owner, token));
+            } catch (RuntimeException e) {
+                log.warn("[SchedulerLeader] {} 임대 반환 실패: {}", job, e.getMessage());
+            }
+        });
+        held.clear();
+    }
+
+    private void count(String job, String result) {
+        Counter.builder("scheduler.job.runs")
+                .description("리더 확인 결과별 스케줄 작업 틱 수")
+                .tag("job", job)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 작업 실행 중 리더 자격 확인용 펜싱 토큰.
+     * check() 는 현재 트랜잭션(있으면)에 참여해 임대 행을 공유 잠금하므로, 트랜잭션 안에서 부르면 커밋까지 인수가 막힌다.
+     */
+    public static final class Fence {
+        static final Fence UNFENCED = new Fence(null, null, 0);
+
+        private final SchedulerLeader leader;
+        private final String job;
+        private final long token;
+
+        Fence(SchedulerLeader leader, String job, long token) {
+            this.leader = leader;
+            this.job = job;
+            this.token = token;
+        }
+
+        public long token() {
+            return token;
+        }
+
+        /** 다른 노드가 임대를 인수했거나 만료됐으면 IllegalStateException */
+        public void check() {
+            if (leader == null) return;
+            if (!leader.leases.holdsShared(job, leader.owner, token)) {
+                leader.held.remove(job, token);
+                leader.lost.increment();
+                throw new IllegalStateException("스케줄 작업 리더 임기가 끝났습니다: " + job + " token=" + token);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ijin.hanaro.scheduling;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업별 리더 임대(lease). 테이블 생성용 매핑이며 읽기/쓰기는 SchedulerLeaseRepository(JdbcTemplate)가 한다.
+ * token 은 리더가 바뀔 때마다 1씩 늘어나는 펜싱 토큰.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+public class SchedulerLease {
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "owner", nullable = false, length = 128)
+    private String owner;
+
+    @Column(name = "token", nullable = false)
+    private long token;
+
+    @Column(name = "expires_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime expiresAt;
+
+    protected SchedulerLease() {}
+
+    public String getName() { return name; }
+    public String getOwner() { return owner; }
+    public long getToken() { return token; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+}
@@ -0,0 +1,76 @@
+package com.ijin.hanaro.scheduling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * scheduler_lease 조작. 만료 판단은 노드 시계 차이를 피하려고 모두 DB 시각(NOW(6)) 기준.
+ * 획득/연장/반환은 lockWaitTimeoutSeconds 안에 행 잠금을 못 얻으면 예외로 끝난다: 한 작업의 임대 행이
+ * 실행 중 트랜잭션의 공유 잠금(holdsShared)에 걸려 있어도 renewHeld 가 innodb_lock_wait_timeout 만큼 멈춰
+ * 다른 작업의 임대 연장까지 늦추지 않도록 (실패한 연장은 다음 주기에 다시 시도).
+ */
+@Repository
+public class SchedulerLeaseRepository {
+
+    private final JdbcTemplate jdbc;
+    /** 잠금 대기를 짧게 끊는 획득/연장/반환 전용 (드라이버 쿼리 타임아웃) */
+    private final JdbcTemplate leaseJdbc;
+
+    public SchedulerLeaseRepository(JdbcTemplate jdbc,
+                                    @Value("${app.scheduler.lease.lockWaitTimeoutSeconds:2}") int lockWaitTimeoutSeconds) {
+        if (lockWaitTimeoutSeconds < 1) {
+            throw new IllegalArgumentException("app.scheduler.lease.lockWaitTimeoutSeconds 는 1 이상이어야 합니다: " + lockWaitTimeoutSeconds);
+        }
+        this.jdbc = jdbc;
+        this.leaseJdbc = new JdbcTemplate(jdbc.getDataSource());
+        this.leaseJdbc.setQueryTimeout(lockWaitTimeoutSeconds);
+    }
+
+    /**
+     * 임대를 새로 얻거나(행이 없거나 만료됨 → token+1) 이미 가진 임대를 연장한다(token 유지).
+     * 성공하면 현재 token, 다른 노드가 유효한 임대를 가지고 있으면 null.
+     */
+    public Long tryAcquire(String name, String owner, long ttlMs) {
+        long ttlMicros = ttlMs * 1000;
+        int inserted = leaseJdbc.update("""
+            INSERT IGNORE INTO scheduler_lease (name, owner, token, expires_at)
+            VALUES (?, ?, 1, NOW(6) + INTERVAL ? MICROSECOND)
+        """, name, owner, ttlMicros);
+        if (inserted == 0) {
+            // SET 은 왼쪽부터 적용되므로 token 을 owner 보다 먼저 계산 (기존 owner 기준)
+            int updated = leaseJdbc.update("""
+                UPDATE scheduler_lease
+                   SET token = IF(owner = ? AND expires_at >= NOW(6), token, token + 1),
+                       owner = ?,
+                       expires_at = NOW(6) + INTERVAL ? MICROSECOND
+                 WHERE name = ?
+                   AND (owner = ? OR expires_at < NOW(6))
+            """, owner, owner, ttlMicros, name, owner);
+            if (updated == 0) return null;
+        }
+        List<Long> token = leaseJdbc.queryForList(
+                "SELECT token FROM scheduler_lease WHERE name = ? AND owner = ?", Long.class, name, owner);
+        return token.isEmpty() ? null : token.get(0);
+    }
+
+    /**
+     * token 의 임대가 아직 유효한지 확인하며 행을 공유 잠금한다.
+     * 트랜잭션 안에서 부르면 커밋까지 다른 노드의 인수(UPDATE)가 대기하므로, 그 트랜잭션의 쓰기는 옛 리더와 겹치지 않는다.
+     */
+    public boolean holdsShared(String name, String owner, long token) {
+        return !jdbc.queryForList("""
+            SELECT token FROM scheduler_lease
+             WHERE name = ? AND owner = ? AND token = ? AND expires_at >= NOW(6)
+             FOR SHARE
+        """, Long.class, name, owner, token).isEmpty();
+    }
+
+    /** 임대를 즉시 만료시켜 다른 노드가 바로 인수할 수 있게 한다 */
+    public void release(String name, String owner, long token) {
+        leaseJdbc.update("UPDATE scheduler_lease SET expires_at = NOW(6) - INTERVAL 1 MICROSECOND WHERE name = ? AND owner = ? AND token = ?",
+                name, owner, token);
+    }
+}
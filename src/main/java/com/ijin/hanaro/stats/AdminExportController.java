@@ -0,0 +1,53 @@
+package com.ijin.hanaro.stats;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.OutputStream;
+
+@RestController
+@RequestMapping("/admin/export")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminExportController {
+
+    private static final Logger BIZ_LOG = LoggerFactory.getLogger("business.product");
+
+    private final DataExportService dataExportService;
+
+    /** 전체 내보내기는 오래 걸리므로 이 엔드포인트에만 긴 비동기 타임아웃을 준다 (전역 spring.mvc.async.request-timeout 은 기본값 유지) */
+    @Value("${app.export.timeoutMs:1800000}")
+    private long timeoutMs;
+
+    @GetMapping("/data.sql")
+    @Operation(summary = "현재 DB를 SQL 스크립트로 스트리밍 다운로드",
+            description = "users/products/product_images/orders/order_items 를 다중 행 INSERT 로 내려받습니다. 힙에 전체를 올리지 않고 스트리밍합니다.")
+    public WebAsyncTask<Void> exportSql(
+            @Parameter(description = "gzip 압축 여부") @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) {
+        String filename = gzip ? "data.sql.gz" : "data.sql";
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        response.setContentType(gzip ? "application/gzip" : "application/sql;charset=UTF-8");
+        // MVC 비동기 실행기에서 응답 스트림에 바로 쓴다 (StreamingResponseBody 와 같은 방식, 타임아웃만 이 작업 전용)
+        return new WebAsyncTask<>(timeoutMs, () -> {
+            long t0 = System.nanoTime();
+            OutputStream out = response.getOutputStream();
+            DataExportService.ExportResult r = dataExportService.export(out, gzip);
+            out.flush();
+            BIZ_LOG.info("[EXPORT] gzip={} users={} products={} product_images={} orders={} order_items={} elapsedMs={}",
+                    gzip, r.users(), r.products(), r.productImages(), r.orders(), r.orderItems(),
+                    (System.nanoTime() - t0) / 1_000_000);
+            return null;
+        });
+    }
+}
@@ -18,6 +18,7 @@ import java.util.List;
 public class AdminStatsController {
 
     private final AdminStatsService service;
+    private final StatsBackfillService backfillService;
 
     @GetMapping("/daily")
     @Operation(summary = "일별 매출 통계(집계 테이블)",
@@ -38,4 +39,26 @@ public class AdminStatsController {
     ){
         return service.perProduct(from, to);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/backfill")
+    @Operation(summary = "과거 매출 통계 백필 시작",
+            description = "from~to 일자를 일 단위로 병렬 재집계합니다(일자별 트랜잭션). 작업 id 를 반환하며 진행 상황은 GET /admin/stats/backfill/{id}")
+    public Long startBackfill(
+            @Parameter(description="시작일(yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description="종료일(yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ){
+        return backfillService.start(from, to);
+    }
+
+    @PostMapping("/backfill/{id}/resume")
+    @Operation(summary = "백필 작업 재개", description = "중단(INTERRUPTED)/실패(FAILED)한 작업에서 완료되지 않은 일자만 다시 집계")
+    public void resumeBackfill(@PathVariable Long id) {
+        backfillService.resume(id);
+    }
+
+    @GetMapping("/backfill/{id}")
+    @Operation(summary = "백필 진행 상황", description = "완료/실패/대기 일자 수와 실패 일자별 오류")
+    public BackfillProgressResponse backfillProgress(@PathVariable Long id) {
+        return backfillService.progress(id);
+    }
+}
@@ -13,6 +13,6 @@ public interface DailyProductSalesRepository extends JpaRepository<DailyProductS
     List<DailyProductSales> findBySalesDateBetweenOrderBySalesDate(LocalDate from, LocalDate to);
     void deleteBySalesDate(LocalDate date);
     @Modifying
-    @Query("delete from DailySales d where d.salesDate = :statDate")
+    @Query("delete from DailyProductSales d where d.salesDate = :statDate")
     void deleteByStatDate(@Param("statDate") LocalDate statDate);
 }
\ No newline at end of file
@@ -1,28 +1,73 @@
 package com.ijin.hanaro.stats;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
+/**
+ * DB → SQL 스크립트 내보내기.
+ * 테이블마다 forward-only 스트리밍 커서로 한 행씩 읽어 다중 행 INSERT 로 바로 써 내려가므로
+ * 행 수와 무관하게 힙 사용량이 일정하다 (한 번에 들고 있는 것은 INSERT 한 문장 분량의 StringBuilder 뿐).
+ */
 @Service
-@RequiredArgsConstructor
 public class DataExportService {
 
-    private final JdbcTemplate jdbc;
+    /** MySQL Connector/J 는 fetchSize=Integer.MIN_VALUE 일 때 결과를 한 행씩 스트리밍한다 */
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int WRITER_BUFFER = 64 * 1024;
+
+    private enum Col { NUM, DEC, STR, BOOL, TS }
+
+    private record Table(String name, String columns, Col... types) {}
+
+    // FK 순서 고려 (TRUNCATE 는 역순)
+    private static final Table USERS = new Table("users",
+            "id, username, password, nickname, phone, role, enabled, deleted_at",
+            Col.NUM, Col.STR, Col.STR, Col.STR, Col.STR, Col.STR, Col.BOOL, Col.TS);
+    private static final Table PRODUCTS = new Table("products",
+            "id, name, price, stock_quantity, description, main_image_path, is_deleted",
+            Col.NUM, Col.STR, Col.DEC, Col.NUM, Col.STR, Col.STR, Col.BOOL);
+    private static final Table PRODUCT_IMAGES = new Table("product_images",
+            "id, product_id, original_name, stored_name, stored_path, size_bytes, checksum_sha256, primary_image",
+            Col.NUM, Col.NUM, Col.STR, Col.STR, Col.STR, Col.NUM, Col.STR, Col.BOOL);
+    private static final Table ORDERS = new Table("orders",
+            "id, user_id, order_no, status, created_at, status_updated_at, paid_at, total_price",
+            Col.NUM, Col.NUM, Col.STR, Col.STR, Col.TS, Col.TS, Col.TS, Col.DEC);
+    private static final Table ORDER_ITEMS = new Table("order_items",
+            "id, order_id, product_id, product_name, quantity, unit_price",
+            Col.NUM, Col.NUM, Col.NUM, Col.STR, Col.NUM, Col.DEC);
+
+    private final JdbcTemplate streamingJdbc;
+    private final int rowsPerInsert;
+    private final int maxStatementChars;
+
+    public DataExportService(JdbcTemplate jdbc,
+                             @Value("${app.export.rowsPerInsert:500}") int rowsPerInsert,
+                             @Value("${app.export.maxStatementChars:1000000}") int maxStatementChars) {
+        // 공용 JdbcTemplate 설정을 건드리지 않도록 내보내기 전용 인스턴스 사용
+        this.streamingJdbc = new JdbcTemplate(jdbc.getDataSource());
+        this.streamingJdbc.setFetchSize(STREAMING_FETCH_SIZE);
+        this.rowsPerInsert = rowsPerInsert;
+        this.maxStatementChars = maxStatementChars;
+    }
 
-    public record ExportResult(int users, int products, int productImages, int orders, int orderItems) {}
+    public record ExportResult(long users, long products, long productImages, long orders, long orderItems) {}
 
     /** 프로젝트 루트 기준: src/main/resources/data/data.sql 로 내보내기 */
     public ExportResult exportProjectDataSql() throws IOException {
@@ -33,8 +78,21 @@ public class DataExportService {
         }
     }
 
+    /** 스트림으로 내보내기 (gzip=true 면 gzip 압축). out 은 닫지 않는다 */
+    public ExportResult export(OutputStream out, boolean gzip) throws IOException {
+        if (!gzip) {
+            Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITER_BUFFER);
+            return export(w);
+        }
+        GZIPOutputStream gz = new GZIPOutputStream(out, WRITER_BUFFER);
+        Writer w = new BufferedWriter(new OutputStreamWriter(gz, StandardCharsets.UTF_8), WRITER_BUFFER);
+        ExportResult r = export(w);
+        gz.finish();
+        return r;
+    }
+
     /** writer 로 SQL 스크립트 작성 */
-    public ExportResult export(BufferedWriter out) throws IOException {
+    public ExportResult export(Writer out) throws IOException {
         out.write("-- generated by DataExportService\n");
         out.write("SET FOREIGN_KEY_CHECKS=0;\n\n");
 
@@ -45,107 +103,96 @@ public class DataExportService {
         out.write("TRUNCATE TABLE products;\n");
         out.write("TRUNCATE TABLE users;\n\n");
 
-        // 2) users
-        List<Map<String, Object>> users = jdbc.queryForList("""
-            SELECT id, username, password, nickname, phone, role, enabled, deleted_at
-            FROM users ORDER BY id
-        """);
-        for (Map<String, Object> r : users) {
-            out.write("INSERT INTO users (id, username, password, nickname, phone, role, enabled, deleted_at) VALUES (");
-            out.write(num(r.get("id")) + ", " + str(r.get("username")) + ", " + str(r.get("password")) + ", "
-                    + str(r.get("nickname")) + ", " + str(r.get("phone")) + ", " + str(r.get("role")) + ", "
-                    + bool(r.get("enabled")) + ", " + ts(r.get("deleted_at")) + ");\n");
-        }
-        out.write("\n");
+        // 2) 테이블별 스트리밍 덤프 (하나의 StringBuilder 재사용)
+        StringBuilder sb = new StringBuilder(Math.min(maxStatementChars, 1 << 20) + 1024);
+        long users = dump(USERS, out, sb);
+        long products = dump(PRODUCTS, out, sb);
+        long images = dump(PRODUCT_IMAGES, out, sb);
+        long orders = dump(ORDERS, out, sb);
+        long orderItems = dump(ORDER_ITEMS, out, sb);
 
-        // 3) products
-        List<Map<String, Object>> products = jdbc.queryForList("""
-            SELECT id, name, price, stock_quantity, description, main_image_path, is_deleted
-            FROM products ORDER BY id
-        """);
-        for (Map<String, Object> r : products) {
-            out.write("INSERT INTO products (id, name, price, stock_quantity, description, main_image_path, is_deleted) VALUES (");
-            out.write(num(r.get("id")) + ", " + str(r.get("name")) + ", " + dec(r.get("price")) + ", "
-                    + num(r.get("stock_quantity")) + ", " + str(r.get("description")) + ", "
-                    + str(r.get("main_image_path")) + ", " + bool(r.get("is_deleted")) + ");\n");
-        }
-        out.write("\n");
+        out.write("SET FOREIGN_KEY_CHECKS=1;\n");
+        out.flush();
 
-        // 4) product_images
-        List<Map<String, Object>> images = jdbc.queryForList("""
-            SELECT id, product_id, original_name, stored_name, stored_path, size_bytes, checksum_sha256, primary_image
-            FROM product_images ORDER BY id
-        """);
-        for (Map<String, Object> r : images) {
-            out.write("INSERT INTO product_images (id, product_id, original_name, stored_name, stored_path, size_bytes, checksum_sha256, primary_image) VALUES (");
-            out.write(num(r.get("id")) + ", " + num(r.get("product_id")) + ", " + str(r.get("original_name")) + ", "
-                    + str(r.get("stored_name")) + ", " + str(r.get("stored_path")) + ", "
-                    + num(r.get("size_bytes")) + ", " + str(r.get("checksum_sha256")) + ", "
-                    + bool(r.get("primary_image")) + ");\n");
-        }
-        out.write("\n");
+        return new ExportResult(users, products, images, orders, orderItems);
+    }
 
-        // 5) orders
-        List<Map<String, Object>> orders = jdbc.queryForList("""
-            SELECT id, user_id, order_no, status, created_at, status_updated_at, paid_at, total_price
-            FROM orders ORDER BY id
-        """);
-        for (Map<String, Object> r : orders) {
-            out.write("INSERT INTO orders (id, user_id, order_no, status, created_at, status_updated_at, paid_at, total_price) VALUES (");
-            out.write(num(r.get("id")) + ", " + num(r.get("user_id")) + ", " + str(r.get("order_no")) + ", "
-                    + str(r.get("status")) + ", " + ts(r.get("created_at")) + ", " + ts(r.get("status_updated_at")) + ", "
-                    + ts(r.get("paid_at")) + ", " + dec(r.get("total_price")) + ");\n");
+    private long dump(Table t, Writer out, StringBuilder sb) throws IOException {
+        String head = "INSERT INTO " + t.name() + " (" + t.columns() + ") VALUES\n";
+        String sql = "SELECT " + t.columns() + " FROM " + t.name() + " ORDER BY id";
+        long[] count = {0};
+        int[] inStatement = {0};
+        sb.setLength(0);
+        try {
+            streamingJdbc.query(sql, (RowCallbackHandler) rs -> {
+                try {
+                    sb.append(inStatement[0] == 0 ? head : ",\n");
+                    appendRow(sb, rs, t.types());
+                    inStatement[0]++;
+                    count[0]++;
+                    if (inStatement[0] >= rowsPerInsert || sb.length() >= maxStatementChars) {
+                        sb.append(";\n");
+                        out.append(sb);
+                        sb.setLength(0);
+                        inStatement[0] = 0;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (inStatement[0] > 0) {
+            sb.append(";\n");
+            out.append(sb);
+            sb.setLength(0);
         }
         out.write("\n");
+        return count[0];
+    }
 
-        // 6) order_items
-        List<Map<String, Object>> orderItems = jdbc.queryForList("""
-            SELECT id, order_id, product_id, product_name, quantity, unit_price
-            FROM order_items ORDER BY id
-        """);
-        for (Map<String, Object> r : orderItems) {
-            out.write("INSERT INTO order_items (id, order_id, product_id, product_name, quantity, unit_price) VALUES (");
-            out.write(num(r.get("id")) + ", " + num(r.get("order_id")) + ", " + num(r.get("product_id")) + ", "
-                    + str(r.get("product_name")) + ", " + num(r.get("quantity")) + ", " + dec(r.get("unit_price")) + ");\n");
+    private static void appendRow(StringBuilder sb, ResultSet rs, Col[] types) throws SQLException {
+        sb.append('(');
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) sb.append(", ");
+            int c = i + 1;
+            switch (types[i]) {
+                case NUM -> {
+                    long v = rs.getLong(c);
+                    if (rs.wasNull()) sb.append("NULL"); else sb.append(v);
+                }
+                case DEC -> {
+                    BigDecimal v = rs.getBigDecimal(c);
+                    if (v == null) sb.append("NULL"); else sb.append(v.toPlainString());
+                }
+                case BOOL -> {
+                    boolean v = rs.getBoolean(c);
+                    if (rs.wasNull()) sb.append("NULL"); else sb.append(v ? '1' : '0');
+                }
+                case TS -> {
+                    Timestamp v = rs.getTimestamp(c);
+                    if (v == null) sb.append("NULL");
+                    else quote(sb, v.toLocalDateTime().toString().replace('T', ' '));
+                }
+                case STR -> {
+                    String v = rs.getString(c);
+                    if (v == null) sb.append("NULL"); else quote(sb, v);
+                }
+            }
         }
-
-        out.write("\nSET FOREIGN_KEY_CHECKS=1;\n");
-        out.flush();
-
-        return new ExportResult(
-                users.size(),
-                products.size(),
-                images.size(),
-                orders.size(),
-                orderItems.size()
-        );
+        sb.append(')');
     }
 
-    private static String num(Object v) { return (v == null) ? "NULL" : v.toString(); }
-    private static String dec(Object v) {
-        if (v == null) return "NULL";
-        if (v instanceof BigDecimal bd) return bd.toPlainString();
-        return v.toString();
-    }
-    private static String bool(Object v) {
-        if (v == null) return "NULL";
-        if (v instanceof Boolean b) return b ? "1" : "0";
-        if (v instanceof Number n) return n.intValue() != 0 ? "1" : "0";
-        return ("true".equalsIgnoreCase(v.toString()) ? "1" : "0");
-    }
-    private static String ts(Object v) {
-        if (v == null) return "NULL";
-        if (v instanceof Timestamp t) return quote(t.toLocalDateTime().toString().replace('T', ' '));
-        if (v instanceof LocalDateTime ldt) return quote(ldt.toString().replace('T',' '));
-        if (v instanceof LocalDate ld) return quote(ld.atStartOfDay().toString().replace('T',' '));
-        return quote(v.toString());
-    }
-    private static String str(Object v) {
-        if (v == null) return "NULL";
-        return quote(v.toString());
-    }
-    private static String quote(String s) {
-        String esc = s.replace("'", "''");
-        return "'" + esc + "'";
+    /** MySQL 문자열 리터럴: 작은따옴표와 백슬래시 이스케이프 */
+    private static void quote(StringBuilder sb, String s) {
+        sb.append('\'');
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char ch = s.charAt(i);
+            if (ch == '\'') sb.append("''");
+            else if (ch == '\\') sb.append("\\\\");
+            else sb.append(ch);
+        }
+        sb.append('\'');
     }
-}
\ No newline at end of file
+}
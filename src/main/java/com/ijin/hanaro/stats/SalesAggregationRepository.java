@@ -0,0 +1,151 @@
+package com.ijin.hanaro.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매출 집계 전용 JDBC 저장소.
+ * 집계는 DB 에서 GROUP BY ... WITH ROLLUP 한 번으로 (일자, 상품) / 일자 합계 / 전체 합계를 함께 계산하고,
+ * 결과는 daily_sales / daily_product_sales 에 배치 upsert 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SalesAggregationRepository {
+
+    private final JdbcTemplate jdbc;
+
+    /** 집계 결과 한 줄. productId == null 이면 일자 합계 */
+    public record Row(LocalDate salesDate, Long productId, int orders, int items, BigDecimal amount) {}
+
+    /** rows: 전체 합계의 원본 행 수(주문×주문상품), 처리량 지표용 */
+    public record Result(List<Row> dailyTotals, List<Row> productTotals, long rows) {}
+
+    private static final String AGGREGATE_SQL = """
+        SELECT DATE(o.paid_at)                              AS sales_date,
+               oi.product_id                                AS product_id,
+               GROUPING(DATE(o.paid_at))                    AS g_date,
+               GROUPING(oi.product_id)                      AS g_product,
+               COUNT(*)                                     AS source_rows,
+               COUNT(DISTINCT o.id)                         AS orders,
+               COALESCE(SUM(oi.quantity), 0)                AS items,
+               COALESCE(SUM(oi.unit_price * oi.quantity), 0) AS amount
+          FROM orders o
+          LEFT JOIN order_items oi ON oi.order_id = o.id
+         WHERE o.status = 'DELIVERED'
+           AND %s
+         GROUP BY DATE(o.paid_at), oi.product_id WITH ROLLUP
+        """;
+
+    /** 전체 모드: paid_at 이 해당 일자이고 cutoff 이전에 DELIVERED 가 된 주문 */
+    public Result aggregateDay(LocalDate date, LocalDateTime cutoff) {
+        String sql = AGGREGATE_SQL.formatted(
+                "o.paid_at >= ? AND o.paid_at < ? AND o.status_updated_at <= ?");
+        return query(sql, Timestamp.valueOf(date.atStartOfDay()),
+                Timestamp.valueOf(date.plusDays(1).atStartOfDay()), Timestamp.valueOf(cutoff));
+    }
+
+    /** 증분 모드: (from, to] 사이에 DELIVERED 가 된 주문만 (DELIVERED 는 종결 상태이므로 주문당 한 번만 잡힌다) */
+    public Result aggregateChanged(LocalDateTime from, LocalDateTime to) {
+        String sql = AGGREGATE_SQL.formatted(
+                "o.status_updated_at > ? AND o.status_updated_at <= ? AND o.paid_at IS NOT NULL");
+        return query(sql, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private Result query(String sql, Object... args) {
+        List<Row> daily = new ArrayList<>();
+        List<Row> products = new ArrayList<>();
+        long[] rows = {0};
+        jdbc.query(sql, (RowCallbackHandler) rs -> {
+            if (rs.getInt("g_date") == 1) {            // 전체 합계
+                rows[0] = rs.getLong("source_rows");
+                return;
+            }
+            LocalDate date = rs.getDate("sales_date").toLocalDate();
+            int orders = rs.getInt("orders");
+            int items = rs.getInt("items");
+            BigDecimal amount = rs.getBigDecimal("amount");
+            if (rs.getInt("g_product") == 1) {         // 일자 합계
+                daily.add(new Row(date, null, orders, items, amount));
+                return;
+            }
+            long productId = rs.getLong("product_id");
+            if (!rs.wasNull()) {                       // 주문상품이 없는 주문은 상품별 집계에서 제외
+                products.add(new Row(date, productId, orders, items, amount));
+            }
+        }, args);
+        return new Result(daily, products, rows[0]);
+    }
+
+    /** additive=false: 덮어쓰기(전체 모드), true: 기존 값에 더하기(증분 모드) */
+    public void upsertDaily(List<Row> rows, boolean additive) {
+        if (rows.isEmpty()) return;
+        String update = additive
+                ? "total_orders = total_orders + VALUES(total_orders), total_items = total_items + VALUES(total_items), total_amount = total_amount + VALUES(total_amount)"
+                : "total_orders = VALUES(total_orders), total_items = VALUES(total_items), total_amount = VALUES(total_amount)";
+        jdbc.batchUpdate(
+                "INSERT INTO daily_sales (sales_date, total_orders, total_items, total_amount) VALUES (?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE " + update,
+                rows, rows.size(), (ps, r) -> {
+                    ps.setObject(1, r.salesDate());
+                    ps.setInt(2, r.orders());
+                    ps.setInt(3, r.items());
+                    ps.setBigDecimal(4, r.amount());
+                });
+    }
+
+    public void upsertProducts(List<Row> rows, boolean additive) {
+        if (rows.isEmpty()) return;
+        String update = additive
+                ? "qty = qty + VALUES(qty), amount = amount + VALUES(amount)"
+                : "qty = VALUES(qty), amount = VALUES(amount)";
+        jdbc.batchUpdate(
+                "INSERT INTO daily_product_sales (sales_date, product_id, qty, amount) VALUES (?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE " + update,
+                rows, rows.size(), (ps, r) -> {
+                    ps.setObject(1, r.salesDate());
+                    ps.setLong(2, r.productId());
+                    ps.setInt(3, r.items());
+                    ps.setBigDecimal(4, r.amount());
+                });
+    }
+
+    public int deleteProducts(LocalDate date) {
+        return jdbc.update("DELETE FROM daily_product_sales WHERE sales_date = ?", date);
+    }
+
+    // ===== 증분 집계 워터마크 =====
+
+    /**
+     * DB 시계 기준 now - lagSeconds (커밋 지연 중인 트랜잭션을 놓치지 않도록 여유를 둔다).
+     * DELIVERED 전환(OrderStatusTimer, ChunkedStatusTransitionExecutor)도 status_updated_at 을 DB 시계로 기록하므로 노드 시계/시간대 차이와 무관하다.
+     */
+    public LocalDateTime dbNowMinus(int lagSeconds) {
+        return jdbc.queryForObject("SELECT NOW(6) - INTERVAL ? SECOND", LocalDateTime.class, lagSeconds);
+    }
+
+    /**
+     * 워터마크 행을 잠그고 읽는다. 없으면 initial 로 만든다.
+     * exclusive=true(증분 집계)는 FOR UPDATE, false(일자 전체 집계)는 FOR SHARE 로 잠가
+     * 일자 집계끼리는 병렬로 돌고, 증분 집계와는 서로 직렬화된다.
+     */
+    public LocalDateTime lockWatermark(String name, LocalDateTime initial, boolean exclusive) {
+        String sql = "SELECT watermark FROM stats_watermark WHERE name = ? " + (exclusive ? "FOR UPDATE" : "FOR SHARE");
+        List<LocalDateTime> found = jdbc.queryForList(sql, LocalDateTime.class, name);
+        if (!found.isEmpty()) return found.get(0);
+        jdbc.update("INSERT IGNORE INTO stats_watermark (name, watermark) VALUES (?, ?)", name, Timestamp.valueOf(initial));
+        return jdbc.queryForObject(sql, LocalDateTime.class, name);
+    }
+
+    public void updateWatermark(String name, LocalDateTime watermark) {
+        jdbc.update("UPDATE stats_watermark SET watermark = ? WHERE name = ?", Timestamp.valueOf(watermark), name);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ijin.hanaro.stats;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** 백필 작업의 일자 단위 진행 상태. DONE 이 아닌 일자만 재개 시 다시 집계한다 */
+@Entity
+@Table(name = "stats_backfill_day",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "sales_date"}))
+public class StatsBackfillDay {
+
+    public enum Status { PENDING, DONE, FAILED }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String error;
+
+    @Column(name = "took_ms")
+    private Long tookMs;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected StatsBackfillDay() {}
+    public StatsBackfillDay(Long jobId, LocalDate salesDate) {
+        this.jobId = jobId;
+        this.salesDate = salesDate;
+        this.status = Status.PENDING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public Long getJobId() { return jobId; }
+    public LocalDate getSalesDate() { return salesDate; }
+    public Status getStatus() { return status; }
+    public int getAttempts() { return attempts; }
+    public String getError() { return error; }
+    public Long getTookMs() { return tookMs; }
+
+    public void done(int attempts, long tookMs) {
+        this.status = Status.DONE;
+        this.attempts += attempts;
+        this.error = null;
+        this.tookMs = tookMs;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void failed(int attempts, String error) {
+        this.status = Status.FAILED;
+        this.attempts += attempts;
+        this.error = (error != null && error.length() > 500) ? error.substring(0, 500) : error;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
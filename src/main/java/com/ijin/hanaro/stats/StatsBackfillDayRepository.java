@@ -0,0 +1,12 @@
+package com.ijin.hanaro.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface StatsBackfillDayRepository extends JpaRepository<StatsBackfillDay, Long> {
+    List<StatsBackfillDay> findByJobIdAndStatusNotOrderBySalesDate(Long jobId, StatsBackfillDay.Status status);
+    List<StatsBackfillDay> findByJobIdAndStatusOrderBySalesDate(Long jobId, StatsBackfillDay.Status status);
+    long countByJobIdAndStatus(Long jobId, StatsBackfillDay.Status status);
+    long countByJobId(Long jobId);
+}
@@ -0,0 +1,61 @@
+package com.ijin.hanaro.stats;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 통계 백필 작업 (from~to 일자를 일 단위로 재집계). 일자별 진행 상태는 StatsBackfillDay.
+ * owner 는 실행 중인 노드, heartbeat_at 은 그 노드가 DB 시각으로 주기적으로 갱신한다 (오래되면 죽은 노드로 본다).
+ */
+@Entity
+@Table(name = "stats_backfill_job")
+public class StatsBackfillJob {
+
+    public enum Status { RUNNING, COMPLETED, FAILED, INTERRUPTED }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "owner", length = 128)
+    private String owner;
+
+    @Column(name = "heartbeat_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime heartbeatAt;
+
+    protected StatsBackfillJob() {}
+    public StatsBackfillJob(LocalDate fromDate, LocalDate toDate, String owner) {
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.status = Status.RUNNING;
+        this.createdAt = LocalDateTime.now();
+        this.owner = owner;
+    }
+
+    public Long getId() { return id; }
+    public LocalDate getFromDate() { return fromDate; }
+    public LocalDate getToDate() { return toDate; }
+    public Status getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getOwner() { return owner; }
+    public LocalDateTime getHeartbeatAt() { return heartbeatAt; }
+
+    public void finish(Status status) { this.status = status; this.finishedAt = LocalDateTime.now(); }
+}
@@ -0,0 +1,50 @@
+package com.ijin.hanaro.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/** 소유/heartbeat 판단은 노드 시계 차이를 피하려고 DB 시각(NOW(6)) 기준 */
+public interface StatsBackfillJobRepository extends JpaRepository<StatsBackfillJob, Long> {
+    /** 소유 노드가 실행 중임을 알린다. 다른 노드가 가져간 작업이면 0 */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE stats_backfill_job SET heartbeat_at = NOW(6) WHERE id = :id AND owner = :owner",
+           nativeQuery = true)
+    int heartbeat(@Param("id") Long id, @Param("owner") String owner);
+
+    /**
+     * 재개할 작업을 가져온다: 완료되지 않았고, RUNNING 이면 heartbeat 가 staleMicros 보다 오래된 경우만.
+     * 살아 있는 다른 노드가 실행 중이거나 이미 완료됐으면 0
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE stats_backfill_job
+           SET status = 'RUNNING', owner = :owner, heartbeat_at = NOW(6), finished_at = NULL
+         WHERE id = :id
+           AND status <> 'COMPLETED'
+           AND (status <> 'RUNNING' OR heartbeat_at IS NULL OR heartbeat_at < NOW(6) - INTERVAL :staleMicros MICROSECOND)
+        """, nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("staleMicros") long staleMicros);
+
+    /** heartbeat 가 끊긴 RUNNING 작업을 INTERRUPTED 로 (살아 있는 노드의 작업은 건드리지 않음) */
+    @Modifying
+    @Query(value = """
+        UPDATE stats_backfill_job
+           SET status = 'INTERRUPTED', finished_at = NOW(6)
+         WHERE status = 'RUNNING'
+           AND (heartbeat_at IS NULL OR heartbeat_at < NOW(6) - INTERVAL :staleMicros MICROSECOND)
+        """, nativeQuery = true)
+    int interruptStale(@Param("staleMicros") long staleMicros);
+
+    /** 소유 노드일 때만 최종 상태를 기록 (heartbeat 가 끊긴 사이 다른 노드가 재개했으면 0) */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE stats_backfill_job SET status = :status, finished_at = NOW(6)
+         WHERE id = :id AND owner = :owner AND status = 'RUNNING'
+        """, nativeQuery = true)
+    int finish(@Param("id") Long id, @Param("owner") String owner, @Param("status") String status);
+}
@@ -0,0 +1,274 @@
+package com.ijin.hanaro.stats;
+
+import com.ijin.hanaro.scheduling.NodeId;
+import com.ijin.hanaro.stats.dto.BackfillProgressResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 과거 일자 통계 백필.
+ * from~to 를 일 단위로 쪼개 고정 크기 워커 풀에서 병렬로 StatsBatch.aggregateFor 를 호출한다 (일자마다 별도 트랜잭션).
+ * 일자별 상태는 stats_backfill_day 에 남기므로, 프로세스가 죽어도 DONE 이 아닌 일자만 다시 돌리면 된다(resume).
+ * 실행 중인 노드는 작업 행의 owner 이며 heartbeatMs 마다 heartbeat_at 을 갱신한다.
+ * 재개와 재시작 시 INTERRUPTED 처리는 heartbeat 가 staleMs 넘게 끊긴 작업에만 적용되므로, 살아 있는 다른 노드의 작업을 가로채지 않는다.
+ */
+@Service
+public class StatsBackfillService {
+
+    private static final Logger orderLog = LoggerFactory.getLogger("business.order");
+
+    private final StatsBatch statsBatch;
+    private final StatsBackfillJobRepository jobRepo;
+    private final StatsBackfillDayRepository dayRepo;
+    private final MeterRegistry meterRegistry;
+    private final int maxDays;
+    private final int maxAttempts;
+    private final String owner;
+    private final long heartbeatMs;
+    private final long staleMs;
+
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+    /** 이 프로세스에서 실행 중인 작업 id (중복 실행 방지) */
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public StatsBackfillService(StatsBatch statsBatch,
+                                StatsBackfillJobRepository jobRepo,
+                                StatsBackfillDayRepository dayRepo,
+                                MeterRegistry meterRegistry,
+                                NodeId nodeId,
+                                @Value("${app.stats.backfill.workers:4}") int workerCount,
+                                @Value("${app.stats.backfill.maxDays:3660}") int maxDays,
+                                @Value("${app.stats.backfill.maxAttempts:3}") int maxAttempts,
+                                @Value("${app.stats.backfill.heartbeatMs:10000}") long heartbeatMs,
+                                @Value("${app.stats.backfill.staleMs:60000}") long staleMs) {
+        if (staleMs <= heartbeatMs) {
+            throw new IllegalArgumentException("app.stats.backfill.staleMs 는 heartbeatMs 보다 커야 합니다: " + staleMs + " <= " + heartbeatMs);
+        }
+        this.statsBatch = statsBatch;
+        this.jobRepo = jobRepo;
+        this.dayRepo = dayRepo;
+        this.meterRegistry = meterRegistry;
+        this.maxDays = maxDays;
+        this.maxAttempts = maxAttempts;
+        this.owner = nodeId.value();
+        this.heartbeatMs = heartbeatMs;
+        this.staleMs = staleMs;
+        this.coordinator = Executors.newSingleThreadExecutor(namedThreads("stats-backfill-coord"));
+        this.workers = Executors.newFixedThreadPool(workerCount, namedThreads("stats-backfill"));
+    }
+
+    /** 새 백필 작업 생성 후 비동기 실행. 반환값: 작업 id */
+    @Transactional
+    public Long start(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("잘못된 기간입니다: " + from + " ~ " + to);
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxDays) {
+            throw new IllegalArgumentException("백필 기간은 최대 " + maxDays + "일입니다: " + days + "일");
+        }
+        StatsBackfillJob job = jobRepo.save(new StatsBackfillJob(from, to, owner));
+        jobRepo.heartbeat(job.getId(), owner);
+        List<StatsBackfillDay> rows = new ArrayList<>((int) days);
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            rows.add(new StatsBackfillDay(job.getId(), d));
+        }
+        dayRepo.saveAll(rows);
+        orderLog.info("STATS_BACKFILL_CREATED jobId={} from={} to={} days={}", job.getId(), from, to, days);
+
+        Long jobId = job.getId();
+        afterCommit(() -> submit(jobId));
+        return jobId;
+    }
+
+    /** 중단/실패한 작업 재개: DONE 이 아닌 일자만 다시 집계. 살아 있는 노드가 실행 중이면 거절 */
+    @Transactional
+    public void resume(Long jobId) {
+        StatsBackfillJob job = jobRepo.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("백필 작업을 찾을 수 없습니다: id=" + jobId));
+        if (running.contains(jobId)) {
+            throw new IllegalStateException("이미 실행 중인 백필 작업입니다: id=" + jobId);
+        }
+        if (job.getStatus() == StatsBackfillJob.Status.COMPLETED) {
+            throw new IllegalStateException("이미 완료된 백필 작업입니다: id=" + jobId);
+        }
+        // 조건부 UPDATE 로 가져온다 (두 노드가 동시에 재개해도 한쪽만 성공)
+        if (jobRepo.claim(jobId, owner, staleMs * 1000) == 0) {
+            throw new IllegalStateException("다른 노드가 실행 중이거나 이미 완료된 백필 작업입니다: id=" + jobId);
+        }
+        orderLog.info("STATS_BACKFILL_RESUMED jobId={} owner={}", jobId, owner);
+        afterCommit(() -> submit(jobId));
+    }
+
+    @Transactional(readOnly = true)
+    public BackfillProgressResponse progress(Long jobId) {
+        StatsBackfillJob job = jobRepo.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("백필 작업을 찾을 수 없습니다: id=" + jobId));
+        long total = dayRepo.countByJobId(jobId);
+        long done = dayRepo.countByJobIdAndStatus(jobId, StatsBackfillDay.Status.DONE);
+        List<BackfillProgressResponse.DayFailure> failures = dayRepo
+                .findByJobIdAndStatusOrderBySalesDate(jobId, StatsBackfillDay.Status.FAILED).stream()
+                .map(d -> new BackfillProgressResponse.DayFailure(d.getSalesDate(), d.getAttempts(), d.getError()))
+                .toList();
+        return new BackfillProgressResponse(jobId, job.getFromDate(), job.getToDate(), job.getStatus().name(),
+                total, done, failures.size(), total - done - failures.size(),
+                job.getCreatedAt(), job.getFinishedAt(), failures);
+    }
+
+    /** 재시작 시 heartbeat 가 끊긴 RUNNING 작업(소유 노드가 죽음)을 INTERRUPTED 로 표시. 살아 있는 노드의 작업은 그대로 둔다 */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void markInterrupted() {
+        int n = jobRepo.interruptStale(staleMs * 1000);
+        if (n > 0) {
+            orderLog.warn("STATS_BACKFILL_INTERRUPTED jobs={} (resume 으로 재개 가능)", n);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void submit(Long jobId) {
+        if (!running.add(jobId)) return;
+        coordinator.execute(() -> {
+            try {
+                run(jobId);
+            } finally {
+                running.remove(jobId);
+            }
+        });
+    }
+
+    /** 코디네이터 스레드: 남은 일자를 워커 풀에 나눠 주고 모두 끝나면 작업 상태 확정 */
+    private void run(Long jobId) {
+        long t0 = System.nanoTime();
+        List<StatsBackfillDay> todo = dayRepo.findByJobIdAndStatusNotOrderBySalesDate(jobId, StatsBackfillDay.Status.DONE);
+        AtomicInteger failed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(todo.size());
+        for (StatsBackfillDay day : todo) {
+            futures.add(workers.submit(() -> {
+                if (!runDay(day)) failed.incrementAndGet();
+            }));
+        }
+        boolean interrupted = false;
+        // 기다리는 동안 heartbeatMs 마다 작업 행에 살아 있음을 기록
+        waiting:
+        for (Future<?> f : futures) {
+            while (true) {
+                try {
+                    f.get(heartbeatMs, TimeUnit.MILLISECONDS);
+                    break;
+                } catch (TimeoutException e) {
+                    heartbeat(jobId);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    Thread.currentThread().interrupt();
+                    break waiting;
+                } catch (ExecutionException e) {
+                    failed.incrementAndGet();
+                    break;
+                }
+            }
+        }
+
+        StatsBackfillJob.Status result = interrupted ? StatsBackfillJob.Status.INTERRUPTED
+                : failed.get() > 0 ? StatsBackfillJob.Status.FAILED
+                : StatsBackfillJob.Status.COMPLETED;
+        if (jobRepo.finish(jobId, owner, result.name()) == 0) {
+            orderLog.warn("STATS_BACKFILL_OWNER_LOST jobId={} owner={} (다른 노드가 재개함, 결과 기록 생략)", jobId, owner);
+        }
+        long tookMs = (System.nanoTime() - t0) / 1_000_000;
+        orderLog.info("STATS_BACKFILL_DONE jobId={} status={} days={} failed={} tookMs={} daysPerSec={}",
+                jobId, result, todo.size(), failed.get(), tookMs,
+                tookMs > 0 ? String.format("%.1f", todo.size() * 1000.0 / tookMs) : "-");
+    }
+
+    /** 일자 하나 집계 (aggregateFor 가 자체 트랜잭션). 락 경합은 재시도, 그 외 오류는 FAILED 기록 */
+    private boolean runDay(StatsBackfillDay day) {
+        long t0 = System.nanoTime();
+        int attempts = 0;
+        Exception last = null;
+        while (attempts < maxAttempts) {
+            attempts++;
+            try {
+                statsBatch.aggregateFor(day.getSalesDate());
+                long tookNanos = System.nanoTime() - t0;
+                day.done(attempts, tookNanos / 1_000_000);
+                dayRepo.save(day);
+                dayTimer("done").record(tookNanos, TimeUnit.NANOSECONDS);
+                return true;
+            } catch (PessimisticLockingFailureException e) {
+                last = e; // 데드락/락 대기 초과: 재시도
+            } catch (Exception e) {
+                last = e;
+                break;
+            }
+        }
+        day.failed(attempts, last.getClass().getSimpleName() + ": " + last.getMessage());
+        dayRepo.save(day);
+        dayTimer("failed").record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+        orderLog.warn("STATS_BACKFILL_DAY_FAILED jobId={} date={} attempts={} error={}",
+                day.getJobId(), day.getSalesDate(), attempts, last.toString());
+        return false;
+    }
+
+    private void heartbeat(Long jobId) {
+        try {
+            if (jobRepo.heartbeat(jobId, owner) == 0) {
+                orderLog.warn("STATS_BACKFILL_OWNER_LOST jobId={} owner={}", jobId, owner);
+            }
+        } catch (RuntimeException e) {
+            orderLog.warn("STATS_BACKFILL_HEARTBEAT_FAILED jobId={} error={}", jobId, e.toString());
+        }
+    }
+
+    private Timer dayTimer(String result) {
+        return Timer.builder("stats.backfill.day.time")
+                .description("백필 일자 1건 집계 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override public void afterCommit() { task.run(); }
+                    });
+        } else {
+            task.run();
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -11,11 +11,16 @@ import com.ijin.hanaro.order.Order;
 import com.ijin.hanaro.order.OrderItem;
 import com.ijin.hanaro.order.OrderRepository;
 import com.ijin.hanaro.order.OrderStatus;
+import com.ijin.hanaro.scheduling.SchedulerLeader;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.*;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -32,66 +37,124 @@ public class StatsBatch {
     private static final Logger productLog = LoggerFactory.getLogger("business.product");
 
     private final OrderRepository orderRepo;
-    private final DailySalesRepository dailyRepo;
-    private final DailyProductSalesRepository productDailyRepo;
     private final UserRepository userRepo;
     private final ProductRepository productRepo;
     private final OrderItemRepository orderItemRepo;
+    private final SalesAggregationRepository aggregationRepo;
+    private final MeterRegistry meterRegistry;
+    private final SchedulerLeader leader;
+
+    private static final String WATERMARK = "daily_sales";
+
+    @Value("${app.stats.incremental.lagSeconds:5}")
+    private int lagSeconds;
 
     @PersistenceContext
     private EntityManager em;
 
-    /** 매일 00:10에 어제자 매출 집계 저장 */
+    /**
+     * 매일 00:10에 어제자 매출 집계 저장. 여러 노드 중 리더만 실행한다.
+     * fence.check() 는 집계를 마친 뒤 커밋 직전에 부른다: 임대 행을 공유 잠금해 커밋까지 다른 노드의 인수를 막되,
+     * 집계 내내 잠그고 있으면 renewHeld 의 임대 연장 UPDATE 가 그 뒤에서 기다리므로 잠금 시간을 커밋 직전으로 줄인다.
+     * 그 사이 임기가 끝났으면 예외로 집계 전체가 롤백된다.
+     */
     @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul")
+    @Transactional
     public void aggregateYesterday() {
-        LocalDate target = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(1);
-        aggregateFor(target);
+        leader.runIfLeader("stats-daily", fence -> {
+            LocalDate target = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(1);
+            aggregateFor(target);
+            fence.check();
+        });
     }
 
-    /** 특정 일자 매출 집계 저장 (수동 트리거/테스트용) */
+    /** 매 N분: 마지막 실행 이후 DELIVERED 가 된 주문만 집계에 더한다 (리더만, 리더 확인은 커밋 직전) */
+    @Scheduled(fixedDelayString = "${app.stats.incremental.delayMs:300000}",
+               initialDelayString = "${app.stats.incremental.delayMs:300000}")
+    @Transactional
+    public void aggregateIncrementalScheduled() {
+        leader.runIfLeader("stats-incremental", fence -> {
+            aggregateIncremental();
+            fence.check();
+        });
+    }
+
+    /**
+     * 특정 일자 매출 집계 저장 (수동 트리거/테스트용).
+     * 워터마크 시각까지 DELIVERED 가 된 주문으로 해당 일자를 다시 계산해 덮어쓴다.
+     * 워터마크 이후 변경분은 증분 집계가 더하므로 두 모드를 섞어 돌려도 중복 집계되지 않는다.
+     */
     @Transactional
     public void aggregateFor(LocalDate target) {
-        long t0 = System.currentTimeMillis();
+        long t0 = System.nanoTime();
         orderLog.info("BATCH_DAILY_SALES_BEGIN date={}", target);
-        // idempotency: remove existing aggregates for the day
-        dailyRepo.deleteByStatDate(target);
-        productDailyRepo.deleteByStatDate(target);
-        LocalDateTime start = target.atStartOfDay();
-        LocalDateTime end = target.plusDays(1).atStartOfDay().minusNanos(1);
 
         em.flush(); // ensure newly persisted orders are visible before querying
-        List<Order> orders = orderRepo.findByStatusAndPaidAtBetween(OrderStatus.DELIVERED, start, end);
-
-        int totalOrders = orders.size();
-        int totalItems = 0;
-        BigDecimal totalAmount = BigDecimal.ZERO;
-
-        Map<Long, Integer> qtyByProduct = new HashMap<>();
-        Map<Long, BigDecimal> amtByProduct = new HashMap<>();
+        LocalDateTime cutoff = aggregationRepo.lockWatermark(WATERMARK, aggregationRepo.dbNowMinus(lagSeconds), false);
+        SalesAggregationRepository.Result r = aggregationRepo.aggregateDay(target, cutoff);
+
+        // idempotency: 상품별 행은 지우고 다시 쓴다 (그날 매출이 사라진 상품 정리), 일자 합계는 덮어쓰기 upsert
+        aggregationRepo.deleteProducts(target);
+        List<SalesAggregationRepository.Row> daily = r.dailyTotals().isEmpty()
+                ? List.of(new SalesAggregationRepository.Row(target, null, 0, 0, BigDecimal.ZERO))
+                : r.dailyTotals();
+        aggregationRepo.upsertDaily(daily, false);
+        aggregationRepo.upsertProducts(r.productTotals(), false);
+        for (SalesAggregationRepository.Row p : r.productTotals()) {
+            productLog.info("aggregated date={} productId={} qty={} amount={}", target, p.productId(), p.items(), p.amount());
+        }
 
-        for (Order o : orders) {
-            var items = o.getItems();
-            for (OrderItem it : items) {
-                totalItems += it.getQuantity();
-                BigDecimal line = it.getUnitPrice().multiply(BigDecimal.valueOf(it.getQuantity()));
-                totalAmount = totalAmount.add(line);
+        long tookNanos = System.nanoTime() - t0;
+        recordMetrics("full", r.rows(), tookNanos);
+        SalesAggregationRepository.Row total = daily.get(0);
+        orderLog.info("BATCH_DAILY_SALES_DONE date={} orders={} items={} amount={} rows={} tookMs={}",
+                target, total.orders(), total.items(), total.amount(), r.rows(), tookNanos / 1_000_000);
+    }
 
-                qtyByProduct.merge(it.getProduct().getId(), it.getQuantity(), Integer::sum);
-                amtByProduct.merge(it.getProduct().getId(), line, BigDecimal::add);
-            }
+    /**
+     * 증분 집계: (워터마크, DB now - lag] 사이에 DELIVERED 로 바뀐 주문만 paid_at 일자별로 더한다.
+     * DELIVERED 는 종결 상태라 주문 하나는 정확히 한 구간에서만 잡힌다.
+     * 반환값: 반영한 일자 수
+     */
+    @Transactional
+    public int aggregateIncremental() {
+        long t0 = System.nanoTime();
+        LocalDateTime to = aggregationRepo.dbNowMinus(lagSeconds);
+        LocalDateTime from = aggregationRepo.lockWatermark(WATERMARK, to, true);
+        if (!to.isAfter(from)) {
+            return 0;
         }
-
-        dailyRepo.save(new DailySales(target, totalOrders, totalItems, totalAmount));
-        for (Long pid : qtyByProduct.keySet()) {
-            productDailyRepo.save(new DailyProductSales(
-                    target, pid, qtyByProduct.get(pid), amtByProduct.get(pid)
-            ));
-            productLog.info("aggregated date={} productId={} qty={} amount={}", target, pid, qtyByProduct.get(pid), amtByProduct.get(pid));
+        SalesAggregationRepository.Result r = aggregationRepo.aggregateChanged(from, to);
+        aggregationRepo.upsertDaily(r.dailyTotals(), true);
+        aggregationRepo.upsertProducts(r.productTotals(), true);
+        aggregationRepo.updateWatermark(WATERMARK, to);
+
+        long tookNanos = System.nanoTime() - t0;
+        recordMetrics("incremental", r.rows(), tookNanos);
+        if (!r.dailyTotals().isEmpty()) {
+            orderLog.info("BATCH_DAILY_SALES_INCREMENTAL from={} to={} days={} productRows={} rows={} tookMs={}",
+                    from, to, r.dailyTotals().size(), r.productTotals().size(), r.rows(), tookNanos / 1_000_000);
         }
-
-        orderLog.info("BATCH_DAILY_SALES_DONE date={} orders={} items={} amount={} tookMs={}", target, totalOrders, totalItems, totalAmount, (System.currentTimeMillis() - t0));
+        return r.dailyTotals().size();
     }
 
+    private void recordMetrics(String mode, long rows, long tookNanos) {
+        Timer.builder("stats.aggregate.time")
+                .description("매출 집계 소요 시간")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(tookNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("stats.aggregate.rows")
+                .description("집계 1회당 처리한 원본 행 수(주문×주문상품)")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(rows);
+        DistributionSummary.builder("stats.aggregate.rows_per_second")
+                .description("집계 처리량(행/초)")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(tookNanos > 0 ? rows * 1_000_000_000d / tookNanos : 0);
+    }
 
     /**
      * 테스트용 데이터 삽입: 지정한 날짜의 임의 시간에 DELIVERED 주문 n건을 생성한다.
@@ -0,0 +1,21 @@
+package com.ijin.hanaro.stats;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/** 증분 집계 진행 위치 (이 시각까지 DELIVERED 가 된 주문은 집계에 반영됨) */
+@Entity
+@Table(name = "stats_watermark")
+public class StatsWatermark {
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "watermark", nullable = false)
+    private LocalDateTime watermark;
+
+    protected StatsWatermark() {}
+
+    public String getName() { return name; }
+    public LocalDateTime getWatermark() { return watermark; }
+}
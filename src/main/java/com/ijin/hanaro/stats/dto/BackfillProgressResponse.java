@@ -0,0 +1,21 @@
+package com.ijin.hanaro.stats.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BackfillProgressResponse(
+        Long jobId,
+        LocalDate from,
+        LocalDate to,
+        String status,
+        long totalDays,
+        long doneDays,
+        long failedDays,
+        long pendingDays,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt,
+        List<DayFailure> failures
+) {
+    public record DayFailure(LocalDate date, int attempts, String error) {}
+}
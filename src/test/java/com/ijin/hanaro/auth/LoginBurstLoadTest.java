@@ -0,0 +1,116 @@
+package com.ijin.hanaro.auth;
+
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 폭주 중 상품 목록(GET /products) p99 지연이 유지되는지 확인하는 부하 테스트.
+ * 실행: ./gradlew benchmarkTest --tests '*LoginBurstLoadTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoginBurstLoadTest {
+
+    private static final int CATALOG_REQUESTS = 400;
+    private static final int LOGIN_CLIENTS = 64;
+
+    @LocalServerPort int port;
+    @Autowired UserRepository userRepo;
+    @Autowired PasswordEncoder passwordEncoder;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(LOGIN_CLIENTS + 8))
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private User user;
+
+    @BeforeAll
+    void setUp() {
+        User u = new User();
+        u.setUsername("burst_" + UUID.randomUUID().toString().substring(0, 8));
+        u.setPassword(passwordEncoder.encode("password123"));
+        u.setNickname("burst");
+        user = userRepo.save(u);
+    }
+
+    @AfterAll
+    void tearDown() {
+        userRepo.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("로그인 폭주 중에도 상품 목록 p99 지연이 크게 늘지 않고, 한도 초과 로그인은 429 로 빠르게 거절된다")
+    void catalogLatencyStableDuringLoginBurst() throws Exception {
+        catalogLatencies(50); // 워밍업
+        double baselineP99 = p99(catalogLatencies(CATALOG_REQUESTS));
+
+        AtomicBoolean stop = new AtomicBoolean();
+        Map<Integer, Integer> loginStatus = new ConcurrentHashMap<>();
+        ExecutorService burst = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            burst.submit(() -> {
+                while (!stop.get()) {
+                    loginStatus.merge(login(), 1, Integer::sum);
+                }
+                return null;
+            });
+        }
+        Thread.sleep(500); // 폭주가 자리 잡을 때까지
+        double burstP99 = p99(catalogLatencies(CATALOG_REQUESTS));
+        stop.set(true);
+        burst.shutdown();
+        burst.awaitTermination(30, TimeUnit.SECONDS);
+
+        System.out.printf("catalog p99 baseline=%.1fms duringLoginBurst=%.1fms loginStatus=%s%n",
+                baselineP99, burstP99, loginStatus);
+
+        assertThat(loginStatus).containsKey(200);
+        assertThat(burstP99).isLessThan(baselineP99 * 5 + 50);
+    }
+
+    private List<Double> catalogLatencies(int n) throws Exception {
+        List<Double> ms = new ArrayList<>(n);
+        HttpRequest req = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products?page=0&size=10")).GET().build();
+        for (int i = 0; i < n; i++) {
+            long t0 = System.nanoTime();
+            HttpResponse<Void> res = http.send(req, HttpResponse.BodyHandlers.discarding());
+            ms.add((System.nanoTime() - t0) / 1e6);
+            assertThat(res.statusCode()).isEqualTo(200);
+        }
+        return ms;
+    }
+
+    private int login() throws Exception {
+        String body = "{\"username\":\"" + user.getUsername() + "\",\"password\":\"password123\"}";
+        HttpRequest req = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return http.send(req, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static double p99(List<Double> values) {
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ijin.hanaro.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventJournalTest {
+
+    @TempDir Path dir;
+
+    @Test
+    @DisplayName("기록한 이벤트가 세그먼트 전환을 거쳐도 순서대로 그대로 재생된다")
+    void roundTripAcrossSegments() throws IOException {
+        List<JournalEvent> written = new ArrayList<>();
+        try (EventJournal journal = new EventJournal(dir, 4096)) {
+            for (int i = 0; i < 500; i++) {
+                JournalEvent e = switch (i % 6) {
+                    case 0 -> new JournalEvent.OrderCreated(i, i, 7, 1_000L * i, 12_345);
+                    case 1 -> new JournalEvent.OrderItemAdded(i, i, 3, 2, 990);
+                    case 2 -> new JournalEvent.OrderStatusChanged(i, i, (byte) 0, (byte) 4);
+                    case 3 -> new JournalEvent.OrderStatusChanged(i, i - 1, (byte) 2, (byte) 3);
+                    case 4 -> new JournalEvent.StockAdjusted(i, 3, -2, JournalEvent.StockAdjusted.UNKNOWN,
+                            JournalEvent.StockAdjusted.REASON_ORDER);
+                    default -> new JournalEvent.StockSet(i, 3, 100);
+                };
+                assertThat(journal.append(e)).isEqualTo(i + 1);
+                written.add(e);
+            }
+
+            List<JournalEvent> read = new ArrayList<>();
+            assertThat(journal.replay(1, read::add)).isEqualTo(500);
+            assertThat(read).isEqualTo(written);
+
+            List<JournalEvent> tail = new ArrayList<>();
+            journal.replay(451, tail::add);
+            assertThat(tail).isEqualTo(written.subList(450, 500));
+        }
+        try (Stream<Path> s = Files.list(dir)) {
+            assertThat(s.filter(p -> p.toString().endsWith(".seg")).count()).isGreaterThan(1);
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 찢어진 마지막 레코드를 버리고 마지막 유효 seq 다음부터 이어 쓴다")
+    void recoversAfterTornWrite() throws IOException {
+        try (EventJournal journal = new EventJournal(dir, 1 << 16)) {
+            for (int i = 0; i < 10; i++) journal.append(new JournalEvent.StockSet(i, 1, i));
+        }
+        // 10번째 레코드의 CRC 를 망가뜨림 (기록 도중 죽은 상황)
+        Path segment;
+        try (Stream<Path> s = Files.list(dir)) {
+            segment = s.filter(p -> p.toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        int recordBytes = 4 + 1 + 8 + 8 + 12 + 4;
+        try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), 9L * recordBytes + recordBytes - 4);
+        }
+
+        try (EventJournal journal = new EventJournal(dir, 1 << 16)) {
+            assertThat(journal.lastSeq()).isEqualTo(9);
+            assertThat(journal.append(new JournalEvent.StockSet(99, 1, 99))).isEqualTo(10);
+
+            List<JournalEvent> read = new ArrayList<>();
+            journal.replay(1, read::add);
+            assertThat(read).hasSize(10);
+            assertThat(read.get(9)).isEqualTo(new JournalEvent.StockSet(99, 1, 99));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 디렉터리를 두 번째로 열면 바로 실패하고, 첫 저널을 닫으면 다시 열 수 있다")
+    void secondWriterFailsFast() throws IOException {
+        EventJournal first = new EventJournal(dir, 1 << 16);
+        first.append(new JournalEvent.StockSet(1, 1, 1));
+
+        assertThatThrownBy(() -> new EventJournal(dir, 1 << 16))
+                .isInstanceOf(IllegalStateException.class);
+
+        first.close();
+        try (EventJournal reopened = new EventJournal(dir, 1 << 16)) {
+            assertThat(reopened.lastSeq()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ijin.hanaro.journal;
+
+import com.ijin.hanaro.cart.CartService;
+import com.ijin.hanaro.journal.dto.StockHistoryResponse;
+import com.ijin.hanaro.order.ChunkedStatusTransitionExecutor;
+import com.ijin.hanaro.order.OrderService;
+import com.ijin.hanaro.order.OrderStatus;
+import com.ijin.hanaro.product.Product;
+import com.ijin.hanaro.product.ProductRepository;
+import com.ijin.hanaro.product.ProductService;
+import com.ijin.hanaro.stats.dto.DailyProductSalesResponse;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 이 컨텍스트만 저널을 켜고, 다른 테스트와 겹치지 않는 임시 디렉터리를 쓴다 (전환 타이머는 끄고 스윕 실행기를 직접 호출)
+@SpringBootTest(properties = {
+        "app.journal.enabled=true",
+        "app.order.aging.timer.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JournalReplayConsistencyTest {
+
+    // 실제 데이터와 겹치지 않는 과거 시각 (스윕 기준 시각으로 이 주문만 옮기기 위해)
+    private static final LocalDateTime AGED = LocalDateTime.of(2001, 1, 1, 0, 0);
+
+    @DynamicPropertySource
+    static void journalDir(DynamicPropertyRegistry registry) {
+        registry.add("app.journal.dir", () -> {
+            try {
+                return Files.createTempDirectory("journal-replay").toString();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Autowired JournalReplayService replay;
+    @Autowired ChunkedStatusTransitionExecutor transitions;
+    @Autowired OrderService orderService;
+    @Autowired CartService cartService;
+    @Autowired ProductService productService;
+    @Autowired ProductRepository productRepo;
+    @Autowired UserRepository userRepo;
+    @Autowired JdbcTemplate jdbc;
+
+    private final String tag = "replay-" + UUID.randomUUID().toString().substring(0, 8);
+    private User user;
+    private Product product;
+
+    @AfterEach
+    void cleanup() {
+        if (user != null) {
+            jdbc.update("DELETE oi FROM order_items oi JOIN orders o ON o.id = oi.order_id WHERE o.user_id = ?", user.getId());
+            jdbc.update("DELETE FROM orders WHERE user_id = ?", user.getId());
+            jdbc.update("DELETE FROM cart_items WHERE cart_user_id = ?", user.getId());
+            jdbc.update("DELETE FROM carts WHERE user_id = ?", user.getId());
+            userRepo.deleteById(user.getId());
+        }
+        if (product != null) productRepo.deleteById(product.getId());
+    }
+
+    @Test
+    @DisplayName("스윕으로 배송 완료된 주문과 재고 변동을 저널만으로 재생하면 DB 의 매출/재고와 같다")
+    void replayMatchesDatabase() {
+        User u = new User();
+        u.setUsername(tag);
+        u.setPassword("{noop}replay");
+        u.setNickname("replay");
+        user = userRepo.save(u);
+        Product p = new Product();
+        p.setName(tag);
+        p.setPrice(new BigDecimal("1500.00"));
+        p.setStockQuantity(0);
+        product = productRepo.save(p);
+        productService.adjustStock(product.getId(), 10);
+
+        // 배송 완료까지 갈 주문과 ORDERED 로 남을 주문 (저널에는 남을 주문이 먼저 기록된다)
+        cartService.add(user.getId(), product.getId(), 1);
+        orderService.createFromCart(tag);
+        cartService.add(user.getId(), product.getId(), 2);
+        long delivered = orderService.createFromCart(tag).orderId();
+
+        sweep(delivered, OrderStatus.ORDERED, OrderStatus.PREPARING);
+        sweep(delivered, OrderStatus.PREPARING, OrderStatus.SHIPPING);
+        sweep(delivered, OrderStatus.SHIPPING, OrderStatus.DELIVERED);
+
+        LocalDate today = LocalDate.now();
+        List<DailyProductSalesResponse> replayed = replay.dailySales(today, today).products().stream()
+                .filter(r -> r.productId().equals(product.getId()))
+                .toList();
+        Map<String, Object> db = jdbc.queryForMap("""
+            SELECT SUM(oi.quantity) AS qty, SUM(oi.unit_price * oi.quantity) AS amount
+              FROM order_items oi JOIN orders o ON o.id = oi.order_id
+             WHERE oi.product_id = ? AND o.status = 'DELIVERED'
+        """, product.getId());
+        assertThat(replayed).hasSize(1);
+        assertThat(replayed.get(0).qty()).isEqualTo(((Number) db.get("qty")).intValue()).isEqualTo(2);
+        assertThat(replayed.get(0).amount()).isEqualByComparingTo((BigDecimal) db.get("amount"));
+
+        StockHistoryResponse stock = replay.stockHistory(product.getId());
+        Integer dbStock = jdbc.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, product.getId());
+        assertThat(stock.stock()).isEqualTo(dbStock).isEqualTo(7);
+    }
+
+    /** 이 주문만 기준 시각 이전으로 돌려 놓고 스윕 실행기로 한 단계 전환 */
+    private void sweep(long orderId, OrderStatus from, OrderStatus to) {
+        jdbc.update("UPDATE orders SET status_updated_at = ? WHERE id = ?", Timestamp.valueOf(AGED), orderId);
+        assertThat(transitions.run(from, to, AGED)).isGreaterThanOrEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId)).isEqualTo(to.name());
+    }
+}
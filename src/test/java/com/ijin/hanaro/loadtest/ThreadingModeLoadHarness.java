@@ -0,0 +1,115 @@
+package com.ijin.hanaro.loadtest;
+
+import com.ijin.hanaro.auth.JwtUtil;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드의 상품·주문 조회 처리량과 p99 비교 하네스.
+ * 모드별 하위 클래스가 spring.threads.virtual.enabled 만 바꿔 같은 시나리오를 돌린다.
+ * 실행: ./gradlew benchmarkTest --tests '*ThreadLoadTest'
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class ThreadingModeLoadHarness {
+
+    private static final int CLIENTS = 256;
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    @LocalServerPort int port;
+    @Autowired UserRepository userRepo;
+    @Autowired JwtUtil jwtUtil;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired Environment env;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private User user;
+    private String bearer;
+    private Long productId;
+
+    @BeforeAll
+    void setUp() {
+        User u = new User();
+        u.setUsername("load_" + UUID.randomUUID().toString().substring(0, 8));
+        u.setPassword("{noop}load");
+        u.setNickname("load");
+        user = userRepo.save(u);
+        bearer = "Bearer " + jwtUtil.generateToken(user.getUsername(), "ROLE_USER");
+        productId = jdbc.queryForList("SELECT id FROM products WHERE is_deleted = false ORDER BY id LIMIT 1", Long.class)
+                .stream().findFirst().orElse(null);
+    }
+
+    @AfterAll
+    void tearDown() {
+        userRepo.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("상품 목록/상세, 내 주문 조회의 처리량과 p99 를 측정한다")
+    void measure() throws Exception {
+        String mode = env.getProperty("spring.threads.virtual.enabled", "false").equals("true") ? "virtual" : "platform";
+        run(mode, "GET /products", "/products?page=0&size=10", false);
+        if (productId != null) {
+            run(mode, "GET /products/{id}", "/products/" + productId, false);
+        }
+        run(mode, "GET /orders/me", "/orders/me?page=0&size=10", true);
+    }
+
+    private void run(String mode, String name, String path, boolean auth) throws Exception {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (auth) b.header("Authorization", bearer);
+        HttpRequest req = b.build();
+
+        // 워밍업
+        for (int i = 0; i < 50; i++) http.send(req, HttpResponse.BodyHandlers.discarding());
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(CLIENTS * REQUESTS_PER_CLIENT));
+        AtomicInteger errors = new AtomicInteger();
+        long t0 = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long s = System.nanoTime();
+                        try {
+                            int status = http.send(req, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status != 200) errors.incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - s);
+                    }
+                    return null;
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - t0) / 1e9;
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        double p50 = sorted.get(sorted.size() / 2) / 1e6;
+        double p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1) / 1e6;
+        System.out.printf("[%s] %-18s clients=%d requests=%d throughput=%.0f req/s p50=%.1fms p99=%.1fms errors=%d%n",
+                mode, name, CLIENTS, sorted.size(), sorted.size() / seconds, p50, p99, errors.get());
+
+        assertThat(errors.get()).as("%s %s 오류 수", mode, name).isZero();
+    }
+}
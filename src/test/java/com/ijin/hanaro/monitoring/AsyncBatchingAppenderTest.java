@@ -0,0 +1,76 @@
+package com.ijin.hanaro.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncBatchingAppenderTest {
+
+    /** 첫 이벤트에서 latch 가 열릴 때까지 막히는 하위 appender (디스크 지연 흉내) */
+    static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> written = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent e) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            written.add(e.getFormattedMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("하위 appender 가 막혀도 로깅 호출은 블로킹되지 않고, 큐 초과분은 버려지며 개수가 집계된다")
+    void dropsWhenQueueIsFullWithoutBlockingCaller() throws Exception {
+        LoggerContext ctx = new LoggerContext();
+        // 직접 만든 컨텍스트에는 MDC 어댑터가 없어 prepareForDeferredProcessing() 이 실패한다 (SLF4J 초기화 시에는 자동 설정)
+        ctx.setMDCAdapter(new LogbackMDCAdapter());
+        BlockingAppender slow = new BlockingAppender();
+        slow.setContext(ctx);
+        slow.start();
+
+        AsyncBatchingAppender async = new AsyncBatchingAppender();
+        async.setContext(ctx);
+        async.setName("TEST_ASYNC");
+        async.setQueueSize(4);
+        async.setBatchSize(2);
+        async.setMaxBlockMs(0);
+        async.addAppender(slow);
+        async.start();
+
+        Logger logger = ctx.getLogger("business.test");
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(async);
+
+        long t0 = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            logger.info("EVENT i={}", i);
+        }
+        long elapsedMs = (System.nanoTime() - t0) / 1_000_000;
+
+        assertThat(elapsedMs).isLessThan(1000);
+        assertThat(async.droppedCount()).isGreaterThan(0);
+
+        slow.release.countDown();
+        async.stop();
+
+        assertThat(slow.written.size() + async.droppedCount()).isEqualTo(100);
+        assertThat(slow.written.get(0)).isEqualTo("EVENT i=0");
+    }
+}
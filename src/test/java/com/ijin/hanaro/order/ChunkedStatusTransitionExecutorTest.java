@@ -0,0 +1,89 @@
+package com.ijin.hanaro.order;
+
+import com.ijin.hanaro.journal.BusinessEventJournal;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChunkedStatusTransitionExecutorTest {
+
+    private static final int DUE = 25;
+    private static final int CHUNK = 10;
+
+    @Autowired UserRepository userRepo;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager txManager;
+    @Autowired BusinessEventJournal journal;
+
+    private final String tag = "CHUNK-" + UUID.randomUUID().toString().substring(0, 8);
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        User u = new User();
+        u.setUsername(tag.toLowerCase());
+        u.setPassword("{noop}chunk");
+        u.setNickname("chunk");
+        user = userRepo.save(u);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbc.update("DELETE FROM orders WHERE user_id = ?", user.getId());
+        userRepo.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전 행만 chunkSize 단위로 모두 옮기고, 실행별 행 수/잠금 시간을 기록한다")
+    void movesAllDueRowsInChunks() {
+        // 이 테스트의 주문보다 오래된 ORDERED 행이 DB 에 있어도 영향 없도록 기준 시각을 이 테스트 데이터 범위로 제한
+        LocalDateTime base = LocalDateTime.now().minusDays(3650);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < DUE; i++) rows.add(row("due-" + i, base.plusSeconds(i)));
+        rows.add(row("late", base.plusDays(1)));
+        jdbc.batchUpdate("""
+            INSERT INTO orders (order_no, user_id, status, total_price, paid_at, status_updated_at, created_at)
+            VALUES (?, ?, 'ORDERED', 1000.00, ?, ?, ?)
+        """, rows);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChunkedStatusTransitionExecutor executor = new ChunkedStatusTransitionExecutor(jdbc, txManager, journal, registry, CHUNK, 0);
+        int moved = executor.run(OrderStatus.ORDERED, OrderStatus.PREPARING, base.plusSeconds(DUE));
+
+        assertThat(moved).isEqualTo(DUE);
+        assertThat(count("PREPARING")).isEqualTo(DUE);
+        assertThat(count("ORDERED")).isEqualTo(1);
+        assertThat(registry.get("order.status.sweep.chunk.lock.time").timer().count()).isEqualTo(3);
+        assertThat(registry.get("order.status.sweep.rows").summary().totalAmount()).isEqualTo(DUE);
+    }
+
+    private Object[] row(String suffix, LocalDateTime statusUpdatedAt) {
+        Timestamp ts = Timestamp.valueOf(statusUpdatedAt);
+        return new Object[]{tag + "-" + suffix, user.getId(), ts, ts, ts};
+    }
+
+    private int count(String status) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM orders WHERE user_id = ? AND status = ?",
+                Integer.class, user.getId(), status);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ijin.hanaro.order;
+
+import com.ijin.hanaro.monitoring.StatementCounter;
+import com.ijin.hanaro.order.dto.OrderDetailResponse;
+import com.ijin.hanaro.product.Product;
+import com.ijin.hanaro.product.ProductRepository;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "app.monitoring.statementCounting.enabled=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderDetailQueryCountTest {
+
+    private static final int ITEMS = 5;
+
+    @Autowired OrderService orderService;
+    @Autowired OrderRepository orderRepo;
+    @Autowired ProductRepository productRepo;
+    @Autowired UserRepository userRepo;
+
+    private final String tag = "detail-" + UUID.randomUUID().toString().substring(0, 8);
+    private final List<Product> products = new ArrayList<>();
+    private User owner;
+    private User other;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepo.save(user(tag + "-owner"));
+        other = userRepo.save(user(tag + "-other"));
+        order = Order.builder()
+                .orderNo(tag)
+                .user(owner)
+                .status(OrderStatus.ORDERED)
+                .totalPrice(BigDecimal.ZERO)
+                .paidAt(LocalDateTime.now())
+                .items(new ArrayList<>())
+                .build();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < ITEMS; i++) {
+            Product p = new Product();
+            p.setName(tag + "-" + i);
+            p.setPrice(new BigDecimal("1000"));
+            p.setStockQuantity(10);
+            products.add(productRepo.save(p));
+            order.getItems().add(OrderItem.builder()
+                    .order(order)
+                    .product(p)
+                    .productName(p.getName())
+                    .unitPrice(p.getPrice())
+                    .quantity(i + 1)
+                    .build());
+            total = total.add(p.getPrice().multiply(BigDecimal.valueOf(i + 1)));
+        }
+        order.setTotalPrice(total);
+        order = orderRepo.save(order);
+    }
+
+    @AfterEach
+    void cleanup() {
+        orderRepo.delete(order);
+        productRepo.deleteAll(products);
+        userRepo.delete(owner);
+        userRepo.delete(other);
+    }
+
+    @Test
+    @DisplayName("주문 상세는 아이템 수와 무관하게 SQL 1회로 조회되고, 남의 주문은 없는 주문처럼 거부된다")
+    void detailIsSingleStatementWithOwnershipCheck() {
+        StatementCounter.start();
+        OrderDetailResponse res = orderService.getDetail(order.getId(), owner.getUsername());
+        int statements = StatementCounter.stop();
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(res.orderNo()).isEqualTo(tag);
+        assertThat(res.items()).hasSize(ITEMS);
+        assertThat(res.items().get(ITEMS - 1).productId()).isEqualTo(products.get(ITEMS - 1).getId());
+        assertThat(res.items().get(ITEMS - 1).lineTotal()).isEqualByComparingTo(new BigDecimal(1000 * ITEMS));
+
+        assertThatThrownBy(() -> orderService.getDetail(order.getId(), other.getUsername()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static User user(String username) {
+        User u = new User();
+        u.setUsername(username);
+        u.setPassword("{noop}test");
+        u.setNickname("detail");
+        return u;
+    }
+}
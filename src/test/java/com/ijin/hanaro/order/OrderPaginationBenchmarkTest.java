@@ -0,0 +1,127 @@
+package com.ijin.hanaro.order;
+
+import com.ijin.hanaro.order.dto.CursorPage;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * offset 페이지네이션과 keyset 페이지네이션의 깊은 페이지 지연 비교 (주문 10만 건, 페이지 크기 10 → 1만 페이지).
+ * 실행: ./gradlew benchmarkTest --tests '*OrderPaginationBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderPaginationBenchmarkTest {
+
+    private static final int ORDERS = 100_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int[] PAGES = {1, 10, 100, 1_000, 10_000};
+    private static final int RUNS = 5;
+
+    @Autowired OrderService orderService;
+    @Autowired UserRepository userRepo;
+    @Autowired JdbcTemplate jdbc;
+
+    private User user;
+    private final String tag = "BENCH-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @BeforeAll
+    void seed() {
+        User u = new User();
+        u.setUsername(tag.toLowerCase());
+        u.setPassword("{noop}bench");
+        u.setNickname("bench");
+        user = userRepo.save(u);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(5_000);
+        for (int i = 0; i < ORDERS; i++) {
+            Timestamp ts = Timestamp.valueOf(now.minusSeconds(ORDERS - i));
+            batch.add(new Object[]{tag + "-" + i, user.getId(), "DELIVERED", new BigDecimal("1000.00"), ts, ts, ts});
+            if (batch.size() == 5_000) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        insert(batch);
+    }
+
+    private void insert(List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        jdbc.batchUpdate("""
+            INSERT INTO orders (order_no, user_id, status, total_price, paid_at, status_updated_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+        """, rows);
+    }
+
+    @AfterAll
+    void cleanup() {
+        jdbc.update("DELETE FROM orders WHERE user_id = ?", user.getId());
+        userRepo.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("keyset 페이지네이션은 1페이지와 10,000페이지의 지연이 비슷하다")
+    void keysetLatencyIsFlat() {
+        double[] offsetMs = new double[PAGES.length];
+        double[] keysetMs = new double[PAGES.length];
+
+        for (int i = 0; i < PAGES.length; i++) {
+            int page = PAGES[i];
+            String cursor = cursorBefore(page);
+
+            // 워밍업 1회 후 평균
+            orderService.myOrders(user.getUsername(), PageRequest.of(page - 1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id")));
+            orderService.myOrdersScroll(user.getUsername(), cursor, PAGE_SIZE);
+
+            long t0 = System.nanoTime();
+            for (int r = 0; r < RUNS; r++) {
+                orderService.myOrders(user.getUsername(), PageRequest.of(page - 1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id")));
+            }
+            offsetMs[i] = (System.nanoTime() - t0) / 1e6 / RUNS;
+
+            CursorPage<?> last = null;
+            t0 = System.nanoTime();
+            for (int r = 0; r < RUNS; r++) {
+                last = orderService.myOrdersScroll(user.getUsername(), cursor, PAGE_SIZE);
+            }
+            keysetMs[i] = (System.nanoTime() - t0) / 1e6 / RUNS;
+            assertThat(last.content()).hasSize(PAGE_SIZE);
+        }
+
+        System.out.println("page\toffset(ms)\tkeyset(ms)");
+        for (int i = 0; i < PAGES.length; i++) {
+            System.out.printf("%d\t%.2f\t%.2f%n", PAGES[i], offsetMs[i], keysetMs[i]);
+        }
+
+        double first = keysetMs[0];
+        double deepest = keysetMs[PAGES.length - 1];
+        assertThat(deepest).as("keyset page %d vs page 1", PAGES[PAGES.length - 1]).isLessThan(first * 3 + 5);
+    }
+
+    /** page 번째 페이지를 가리키는 커서 = 직전 페이지 마지막 행의 id (벤치마크 측정 대상 아님) */
+    private String cursorBefore(int page) {
+        if (page == 1) return null;
+        Long id = jdbc.queryForObject(
+                "SELECT id FROM orders WHERE user_id = ? ORDER BY id DESC LIMIT 1 OFFSET ?",
+                Long.class, user.getId(), (page - 1) * PAGE_SIZE - 1);
+        return CursorPage.encodeCursor(id);
+    }
+}
@@ -0,0 +1,154 @@
+package com.ijin.hanaro.order;
+
+import com.ijin.hanaro.order.dto.OrderItemResponse;
+import com.ijin.hanaro.order.dto.OrderListItemResponse;
+import com.ijin.hanaro.product.Product;
+import com.ijin.hanaro.product.ProductRepository;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내 주문 목록 한 페이지의 할당량/지연: 엔티티 로딩 + groupingBy(이전 방식) vs JdbcTemplate 평면 행 → DTO(OrderReadRepository).
+ * 할당량은 측정 스레드의 com.sun.management.ThreadMXBean#getThreadAllocatedBytes 차이.
+ * 실행: ./gradlew benchmarkTest --tests '*OrderReadModelBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderReadModelBenchmarkTest {
+
+    private static final int ORDERS = 2_000;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int PAGE_SIZE = 20;
+    private static final int RUNS = 200;
+
+    @Autowired OrderService orderService;
+    @Autowired OrderRepository orderRepo;
+    @Autowired OrderItemRepository orderItemRepo;
+    @Autowired UserRepository userRepo;
+    @Autowired ProductRepository productRepo;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager txManager;
+
+    private final String tag = "READ-" + UUID.randomUUID().toString().substring(0, 8);
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private User user;
+    private Product product;
+
+    @BeforeAll
+    void seed() {
+        User u = new User();
+        u.setUsername(tag.toLowerCase());
+        u.setPassword("{noop}bench");
+        u.setNickname("bench");
+        user = userRepo.save(u);
+        Product p = new Product();
+        p.setName(tag);
+        p.setPrice(new BigDecimal("1000"));
+        p.setStockQuantity(0);
+        product = productRepo.save(p);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            Timestamp ts = Timestamp.valueOf(now.minusSeconds(ORDERS - i));
+            orders.add(new Object[]{tag + "-" + i, user.getId(), "DELIVERED", new BigDecimal("3000.00"), ts, ts, ts});
+        }
+        jdbc.batchUpdate("""
+            INSERT INTO orders (order_no, user_id, status, total_price, paid_at, status_updated_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+        """, orders);
+        jdbc.update("""
+            INSERT INTO order_items (order_id, product_id, product_name, unit_price, quantity)
+            SELECT o.id, ?, ?, 1000.00, 1 FROM orders o
+              JOIN (SELECT 1 AS n UNION ALL SELECT 2 UNION ALL SELECT 3) k
+             WHERE o.user_id = ?
+        """, product.getId(), product.getName(), user.getId());
+    }
+
+    @AfterAll
+    void cleanup() {
+        jdbc.update("DELETE i FROM order_items i JOIN orders o ON o.id = i.order_id WHERE o.user_id = ?", user.getId());
+        jdbc.update("DELETE FROM orders WHERE user_id = ?", user.getId());
+        productRepo.deleteById(product.getId());
+        userRepo.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("평면 행 → DTO 경로는 엔티티 경로와 같은 결과를 더 적은 할당으로 만든다")
+    void projectionAllocatesLessThanEntities() {
+        Pageable pageable = PageRequest.of(3, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id"));
+        TransactionTemplate readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+        Supplier<Page<OrderListItemResponse>> entityPath = () -> readOnly.execute(s -> legacyMyOrders(pageable));
+        Supplier<Page<OrderListItemResponse>> projectionPath = () -> orderService.myOrders(user.getUsername(), pageable);
+
+        Page<OrderListItemResponse> legacy = entityPath.get();
+        Page<OrderListItemResponse> projected = projectionPath.get();
+        assertThat(projected.getContent()).hasSize(PAGE_SIZE).isEqualTo(legacy.getContent());
+        assertThat(projected.getContent()).allSatisfy(o -> assertThat(o.items()).hasSize(ITEMS_PER_ORDER));
+        assertThat(projected.getTotalElements()).isEqualTo(ORDERS);
+
+        // 워밍업 후 측정
+        measure(entityPath, RUNS);
+        measure(projectionPath, RUNS);
+        long[] entity = measure(entityPath, RUNS);
+        long[] projection = measure(projectionPath, RUNS);
+
+        System.out.printf("orders page %d x%d items  entity: %d B/page %.1f us/page  projection: %d B/page %.1f us/page%n",
+                PAGE_SIZE, ITEMS_PER_ORDER, entity[0], entity[1] / 1e3, projection[0], projection[1] / 1e3);
+        assertThat(projection[0]).isLessThan(entity[0]);
+    }
+
+    /** {페이지당 할당 바이트, 페이지당 ns} */
+    private long[] measure(Supplier<?> page, int runs) {
+        long tid = Thread.currentThread().getId();
+        long bytes0 = threads.getThreadAllocatedBytes(tid);
+        long t0 = System.nanoTime();
+        for (int i = 0; i < runs; i++) page.get();
+        long ns = System.nanoTime() - t0;
+        return new long[]{(threads.getThreadAllocatedBytes(tid) - bytes0) / runs, ns / runs};
+    }
+
+    /** 변경 전 OrderService.myOrders 와 같은 방식 (엔티티 페이지 + 아이템 엔티티 IN + groupingBy) */
+    private Page<OrderListItemResponse> legacyMyOrders(Pageable pageable) {
+        Page<Order> orders = orderRepo.findByUser_IdOrderByIdDesc(user.getId(), pageable);
+        List<Long> ids = orders.getContent().stream().map(Order::getId).toList();
+        Map<Long, List<OrderItemResponse>> items = ids.isEmpty() ? Map.of() : orderItemRepo.findByOrder_IdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        it -> it.getOrder().getId(),
+                        Collectors.mapping(it -> new OrderItemResponse(
+                                it.getId(),
+                                it.getProduct().getId(),
+                                it.getProductName(),
+                                it.getUnitPrice(),
+                                it.getQuantity(),
+                                it.getUnitPrice().multiply(BigDecimal.valueOf(it.getQuantity()))
+                        ), Collectors.toList())));
+        return orders.map(o -> new OrderListItemResponse(o.getId(), o.getOrderNo(), o.getStatus(), o.getTotalPrice(),
+                o.getCreatedAt(), items.getOrDefault(o.getId(), List.of())));
+    }
+}
@@ -0,0 +1,97 @@
+package com.ijin.hanaro.order;
+
+import com.ijin.hanaro.order.dto.CursorPage;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderScrollSizeTest {
+
+    private static final int ORDERS = 3;
+
+    @Autowired MockMvc mvc;
+    @Autowired UserRepository userRepo;
+    @Autowired JdbcTemplate jdbc;
+
+    private final String tag = "SCROLL-" + UUID.randomUUID().toString().substring(0, 8);
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        User u = new User();
+        u.setUsername(tag.toLowerCase());
+        u.setPassword("{noop}scroll");
+        u.setNickname("scroll");
+        owner = userRepo.save(u);
+        Timestamp ts = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < ORDERS; i++) {
+            jdbc.update("""
+                INSERT INTO orders (order_no, user_id, status, total_price, paid_at, status_updated_at, created_at)
+                VALUES (?, ?, 'DELIVERED', ?, ?, ?, ?)
+            """, tag + "-" + i, owner.getId(), new BigDecimal("1000.00"), ts, ts, ts);
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbc.update("DELETE FROM orders WHERE user_id = ?", owner.getId());
+        userRepo.deleteById(owner.getId());
+    }
+
+    @Test
+    @DisplayName("내 주문 커서 조회: size=0 은 1로, 너무 큰 size 는 최대값으로 맞춘다")
+    void myOrdersScrollClampsSize() throws Exception {
+        mvc.perform(get("/orders/me/scroll").param("size", "0").with(user(owner.getUsername())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        mvc.perform(get("/orders/me/scroll").param("size", String.valueOf(Integer.MAX_VALUE)).with(user(owner.getUsername())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(CursorPage.MAX_SIZE))
+                .andExpect(jsonPath("$.content.length()").value(ORDERS))
+                .andExpect(jsonPath("$.hasNext").value(false));
+        mvc.perform(get("/orders/me/scroll").param("size", "-5").with(user(owner.getUsername())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1));
+    }
+
+    @Test
+    @DisplayName("관리자 주문 커서 조회: size=0 은 1로, 너무 큰 size 는 최대값으로 맞춘다")
+    void adminScrollClampsSize() throws Exception {
+        mvc.perform(get("/admin/orders/scroll").param("orderNoLike", tag).param("size", "0")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        mvc.perform(get("/admin/orders/scroll").param("orderNoLike", tag).param("size", String.valueOf(Integer.MAX_VALUE))
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(CursorPage.MAX_SIZE))
+                .andExpect(jsonPath("$.content.length()").value(ORDERS))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+}
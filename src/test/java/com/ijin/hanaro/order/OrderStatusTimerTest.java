@@ -0,0 +1,133 @@
+package com.ijin.hanaro.order;
+
+import com.ijin.hanaro.scheduling.NodeId;
+import com.ijin.hanaro.scheduling.SchedulerLeader;
+import com.ijin.hanaro.scheduling.SchedulerLeaseRepository;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 전환 스레드는 끄고, 이 테스트만 쓰는 작업 이름의 임대로 받은 Fence 와 함께 processBatch 를 직접 호출한다
+@SpringBootTest(properties = {
+        "app.order.aging.timer.enabled=false",
+        "app.order.aging.toPreparingMinutes=120"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderStatusTimerTest {
+
+    @Autowired OrderStatusTimer timer;
+    @Autowired UserRepository userRepo;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired SchedulerLeaseRepository leases;
+    @Autowired PlatformTransactionManager txManager;
+
+    private final String tag = "TIMER-" + UUID.randomUUID().toString().substring(0, 8);
+    private final String job = tag.toLowerCase();
+    private User user;
+    private SchedulerLeader leader;
+
+    @BeforeEach
+    void setUp() {
+        User u = new User();
+        u.setUsername(tag.toLowerCase());
+        u.setPassword("{noop}timer");
+        u.setNickname("timer");
+        user = userRepo.save(u);
+        leader = new SchedulerLeader(leases, txManager, new SimpleMeterRegistry(), new NodeId(job), true, 60_000);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbc.update("DELETE FROM orders WHERE user_id = ?", user.getId());
+        jdbc.update("DELETE FROM scheduler_lease WHERE name = ?", job);
+        userRepo.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("시각이 된 주문만 다음 상태로 바꾸고, 아직 이른 주문은 다시 예약하고 취소된 주문은 건너뛴다")
+    void transitionsOnlyDueOrders() {
+        LocalDateTime now = LocalDateTime.now();
+        long due = insert("due", OrderStatus.ORDERED, now.minusMinutes(121));
+        long early = insert("early", OrderStatus.ORDERED, now.minusMinutes(10));
+        long canceled = insert("canceled", OrderStatus.CANCELED, now.minusMinutes(500));
+
+        int before = timer.pendingCount();
+        assertThat(leader.runIfLeader(job, fence -> timer.processBatch(List.of(
+                new OrderStatusTimer.Pending(due, OrderStatus.ORDERED, 0),
+                new OrderStatusTimer.Pending(early, OrderStatus.ORDERED, 0),
+                new OrderStatusTimer.Pending(canceled, OrderStatus.ORDERED, 0)), fence))).isTrue();
+
+        assertThat(status(due)).isEqualTo("PREPARING");
+        assertThat(status(early)).isEqualTo("ORDERED");
+        assertThat(status(canceled)).isEqualTo("CANCELED");
+        // early 의 ORDERED → PREPARING 만 다시 예약 (due 의 다음 단계는 catchUp 이 읽는다)
+        assertThat(timer.pendingCount() - before).isEqualTo(1);
+
+        assertThat(timer.recover()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Fence 가 없거나(리더를 잃고 멈춘 뒤) 임기가 끝난 Fence 로는 전환하지 않는다")
+    void refusesWithoutValidFence() {
+        long due = insert("due", OrderStatus.ORDERED, LocalDateTime.now().minusMinutes(121));
+        List<OrderStatusTimer.Pending> batch = List.of(new OrderStatusTimer.Pending(due, OrderStatus.ORDERED, 0));
+
+        assertThatThrownBy(() -> timer.processBatch(batch, null)).isInstanceOf(IllegalStateException.class);
+        assertThat(status(due)).isEqualTo("ORDERED");
+
+        SchedulerLeader.Fence[] held = new SchedulerLeader.Fence[1];
+        assertThat(leader.runIfLeader(job, f -> held[0] = f)).isTrue();
+        // 임대가 만료되면 (다른 노드가 인수할 수 있는 상태) 옛 Fence 는 거부된다
+        jdbc.update("UPDATE scheduler_lease SET expires_at = NOW(6) - INTERVAL 1 SECOND WHERE name = ?", job);
+        assertThatThrownBy(() -> timer.processBatch(batch, held[0])).isInstanceOf(IllegalStateException.class);
+        assertThat(status(due)).isEqualTo("ORDERED");
+    }
+
+    @Test
+    @DisplayName("catchUp 은 구간 안에서 상태가 바뀐 진행 중 주문만 예약한다 (스윕이 옮긴 주문 포함)")
+    void catchUpSchedulesChangedOrders() {
+        // 실제 데이터와 겹치지 않는 과거 구간
+        LocalDateTime from = LocalDateTime.of(2002, 2, 2, 0, 0);
+        LocalDateTime to = from.plusMinutes(10);
+        insert("in", OrderStatus.PREPARING, from.plusMinutes(5));
+        insert("boundary", OrderStatus.ORDERED, from);
+        insert("after", OrderStatus.SHIPPING, to.plusSeconds(1));
+        insert("done", OrderStatus.DELIVERED, from.plusMinutes(5));
+
+        int before = timer.pendingCount();
+        assertThat(timer.catchUp(from, to)).isEqualTo(1);
+        assertThat(timer.pendingCount() - before).isEqualTo(1);
+        assertThat(timer.catchUp(to, from)).isZero();
+    }
+
+    private long insert(String suffix, OrderStatus status, LocalDateTime statusUpdatedAt) {
+        Timestamp ts = Timestamp.valueOf(statusUpdatedAt);
+        jdbc.update("""
+            INSERT INTO orders (order_no, user_id, status, total_price, paid_at, status_updated_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+        """, tag + "-" + suffix, user.getId(), status.name(), new BigDecimal("1000.00"), ts, ts, ts);
+        return jdbc.queryForObject("SELECT id FROM orders WHERE order_no = ?", Long.class, tag + "-" + suffix);
+    }
+
+    private String status(long id) {
+        return jdbc.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, id);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ijin.hanaro.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeSequenceOrderNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 250_000; // 총 200만 건
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 주문번호가 중복되지 않고 스레드별로 단조 증가한다")
+    void concurrentIdsAreUniqueAndMonotonic() throws Exception {
+        var gen = new TimeSequenceOrderNumberGenerator(7, "Asia/Seoul");
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        List<Future<String[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                String[] ids = new String[PER_THREAD];
+                for (int i = 0; i < PER_THREAD; i++) ids[i] = gen.next();
+                return ids;
+            }));
+        }
+        startGate.countDown();
+
+        String[] all = new String[THREADS * PER_THREAD];
+        int pos = 0;
+        for (Future<String[]> f : futures) {
+            String[] ids = f.get(60, TimeUnit.SECONDS);
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i].compareTo(ids[i - 1])).as("스레드 내 단조 증가").isPositive();
+            }
+            System.arraycopy(ids, 0, all, pos, ids.length);
+            pos += ids.length;
+        }
+        pool.shutdown();
+
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertThat(all[i]).as("중복 주문번호").isNotEqualTo(all[i - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("주문번호는 yyyyMMddHHmmss + 노드 2자리 + 시퀀스 7자리 형식이다")
+    void format() {
+        var gen = new TimeSequenceOrderNumberGenerator(7, "Asia/Seoul");
+        String id = gen.next();
+        assertThat(id).hasSize(23).containsOnlyDigits();
+        assertThat(id.substring(14, 16)).isEqualTo("07");
+    }
+}
@@ -0,0 +1,88 @@
+package com.ijin.hanaro.product;
+
+import com.ijin.hanaro.product.dto.ProductResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductListQueryCountTest {
+
+    private static final int PRODUCTS = 12;
+    private static final int IMAGES_PER_PRODUCT = 2;
+
+    @Autowired ProductService productService;
+    @Autowired ProductRepository productRepo;
+    @Autowired ProductImageRepository imageRepo;
+    @Autowired EntityManagerFactory emf;
+
+    private final String marker = "qcount-" + UUID.randomUUID().toString().substring(0, 8);
+    private final List<Product> products = new ArrayList<>();
+    private final List<ProductImage> images = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product p = new Product();
+            p.setName(marker + "-" + i);
+            p.setPrice(new BigDecimal("1000"));
+            p.setStockQuantity(10);
+            products.add(productRepo.save(p));
+            for (int k = 0; k < IMAGES_PER_PRODUCT; k++) {
+                ProductImage img = new ProductImage();
+                img.setProduct(p);
+                img.setOriginalName("img.png");
+                img.setStoredPath("/upload/test");
+                img.setStoredName(UUID.randomUUID() + ".png");
+                img.setSizeBytes(1);
+                img.setChecksumSha256(UUID.randomUUID().toString().replace("-", ""));
+                img.setPrimaryImage(k == 0);
+                images.add(imageRepo.save(img));
+            }
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        imageRepo.deleteAll(images);
+        productRepo.deleteAll(products);
+    }
+
+    @Test
+    @DisplayName("관리자 상품 목록의 SQL 실행 수는 페이지 크기와 무관하다")
+    void statementCountDoesNotGrowWithPageSize() {
+        long small = statementsFor(5);
+        long large = statementsFor(10);
+
+        // 상품 페이지 + count + 이미지 IN 조회
+        assertThat(small).isLessThanOrEqualTo(3);
+        assertThat(large).as("page size 5 → %d, 10 → %d", small, large).isEqualTo(small);
+    }
+
+    private long statementsFor(int size) {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        Page<ProductResponse> page = productService.list(marker, PageRequest.of(0, size, Sort.by("id").descending()));
+        assertThat(page.getContent()).hasSize(size)
+                .allSatisfy(r -> assertThat(r.imagePaths()).hasSize(IMAGES_PER_PRODUCT));
+        return stats.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ijin.hanaro.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StockReservationConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 500;
+    private static final int CHECKOUTS = 3000;
+    private static final int THREADS = 32;
+
+    @Autowired StockReservationService stockReservation;
+    @Autowired ProductRepository productRepo;
+    @Autowired TransactionTemplate tx;
+    @Autowired JdbcTemplate jdbc;
+
+    private Long productId;
+
+    @AfterEach
+    void cleanup() {
+        if (productId != null) productRepo.deleteById(productId);
+    }
+
+    @Test
+    @DisplayName("한 상품에 동시 주문이 몰려도 재고는 음수가 되지 않고 성공 수량 합이 초기 재고와 일치한다")
+    void parallelReservationsNeverOversell() throws Exception {
+        Product p = new Product();
+        p.setName("동시성테스트-" + System.nanoTime());
+        p.setPrice(new BigDecimal("1000"));
+        p.setStockQuantity(INITIAL_STOCK);
+        productId = productRepo.save(p).getId();
+
+        AtomicInteger reservedQty = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger minObserved = new AtomicInteger(Integer.MAX_VALUE);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(CHECKOUTS);
+        for (int i = 0; i < CHECKOUTS; i++) {
+            int qty = 1 + (i % 3); // 1~3개씩 섞어서 요청
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                try {
+                    tx.executeWithoutResult(s -> stockReservation.reserve(Map.of(productId, qty)));
+                    reservedQty.addAndGet(qty);
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+                Integer now = jdbc.queryForObject("select stock_quantity from products where id = ?", Integer.class, productId);
+                minObserved.accumulateAndGet(now, Math::min);
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        int finalStock = productRepo.findById(productId).orElseThrow().getStockQuantity();
+        assertThat(minObserved.get()).as("관측된 최소 재고").isGreaterThanOrEqualTo(0);
+        assertThat(finalStock).isGreaterThanOrEqualTo(0);
+        assertThat(reservedQty.get() + finalStock).as("차감된 수량 + 남은 재고 = 초기 재고").isEqualTo(INITIAL_STOCK);
+        assertThat(rejected.get()).as("재고 소진 이후 요청은 거절").isPositive();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ijin.hanaro.product.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private final ProductSearchIndex index = new ProductSearchIndex(null);
+
+    @Test
+    @DisplayName("한글 부분 일치 검색이 되고, 이름 일치가 설명 일치보다 앞선다")
+    void koreanPartialMatchAndRanking() {
+        index.add(1L, "아이폰 케이스", "투명 젤리");
+        index.add(2L, "갤럭시 충전기", "아이폰 호환 고속 충전");
+        index.add(3L, "무선 이어폰", "블루투스");
+
+        var page = index.search("이폰", PageRequest.of(0, 10));
+
+        // "이어폰"은 "이폰"을 포함하지 않으므로 제외 (LIKE 와 동일)
+        assertThat(page.getContent()).containsExactly(1L, 2L);
+        assertThat(index.search("아이폰", PageRequest.of(0, 10)).getContent()).containsExactly(1L, 2L);
+        assertThat(index.search("아이ㅍ", PageRequest.of(0, 10)).getContent()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 반영된다")
+    void updateAndRemove() {
+        index.add(1L, "Blue Shirt", null);
+        index.remove(1L);
+        index.add(1L, "Red Shirt", null);
+
+        assertThat(index.search("blue", PageRequest.of(0, 10)).getTotalElements()).isZero();
+        assertThat(index.search("RED", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("shirt", PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("bigram 을 모두 가져도 검색어가 부분 문자열이 아니면 제외하고, 검색어 안의 한 글자 단어도 확인한다")
+    void verifiesCandidatesAsSubstrings() {
+        index.add(1L, "이폰아이", null);      // "아이", "이폰" 을 모두 갖지만 "아이폰" 은 아님
+        index.add(2L, "아이폰 케이스", null);
+        index.add(3L, "갤럭시 케이스", null);
+        index.add(4L, "폰 케이스", null);
+
+        assertThat(index.search("아이폰", PageRequest.of(0, 10)).getContent()).containsExactly(2L);
+        assertThat(index.search("폰 케이스", PageRequest.of(0, 10)).getContent()).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(index.search("폰 케이스", PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("설명 2000자 뒤에 있는 검색어도 찾는다 (DB LIKE 와 같은 결과)")
+    void matchesPastLongDescriptionPrefix() {
+        index.add(1L, "긴 설명 상품", "가나".repeat(1500) + " 한정판 각인");
+        index.add(2L, "짧은 설명 상품", "일반판");
+
+        assertThat(index.search("한정판 각인", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정이 반복돼도 순번을 다시 매겨 메모리가 상품 수만큼만 유지되고 검색 결과는 같다")
+    void reclaimsOrdinalsOfEditedDocuments() {
+        for (long id = 1; id <= 10; id++) index.add(id, "상품" + id + " 기본", null);
+        for (int round = 0; round < 5000; round++) {
+            long id = round % 10 + 1;
+            index.remove(id);
+            index.add(id, "상품" + id + " 수정" + round, null);
+        }
+
+        assertThat(index.ordinalCapacity()).isEqualTo(1024);
+        assertThat(index.search("수정4999", PageRequest.of(0, 10)).getContent()).containsExactly(10L);
+        assertThat(index.search("기본", PageRequest.of(0, 10)).getTotalElements()).isZero();
+        assertThat(index.search("상품", PageRequest.of(0, 20)).getTotalElements()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,63 @@
+package com.ijin.hanaro.product.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageIngestExecutorTest {
+
+    @TempDir Path root;
+    @TempDir Path staging;
+
+    @Test
+    @DisplayName("병렬 ingest: 결과는 입력 순서를 따르고, 일부가 실패해도 성공한 파일은 모두 콜백으로 넘긴 뒤 실패를 던진다")
+    void ingestAllKeepsOrderAndReportsStoredFiles() throws Exception {
+        LocalImageStorage storage = new LocalImageStorage(root.toString(), staging.toString());
+        ImageIngestExecutor executor = new ImageIngestExecutor(storage, new SimpleMeterRegistry(), true, 4, 2);
+        List<MultipartFile> files = new ArrayList<>();
+        List<String> checksums = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            byte[] bytes = new byte[64 * 1024];
+            ThreadLocalRandom.current().nextBytes(bytes);
+            files.add(new MockMultipartFile("files", "f" + i + ".png", "image/png", bytes));
+            checksums.add(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes)));
+        }
+
+        List<ImageStorage.StoredImage> stored = executor.ingestAll(files, f -> ".png", s -> {});
+        assertThat(stored).extracting(ImageStorage.StoredImage::sha256).containsExactlyElementsOf(checksums);
+        for (int i = 0; i < files.size(); i++) {
+            assertThat(Files.readAllBytes(storage.resolve(stored.get(i).storedPath(), stored.get(i).storedName())))
+                    .isEqualTo(files.get(i).getBytes());
+        }
+
+        List<MultipartFile> withFailure = new ArrayList<>(files);
+        withFailure.add(2, new MockMultipartFile("files", "broken.png", "image/png", new byte[]{1}) {
+            @Override public InputStream getInputStream() throws IOException {
+                throw new IOException("broken");
+            }
+        });
+        List<ImageStorage.StoredImage> reported = new CopyOnWriteArrayList<>();
+        assertThatThrownBy(() -> executor.ingestAll(withFailure, f -> ".png", reported::add))
+                .isInstanceOf(IOException.class)
+                .hasMessage("broken");
+        assertThat(reported).hasSize(files.size());
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,117 @@
+package com.ijin.hanaro.product.storage;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내용 주소 이미지 제공 경로(ImageServingController) vs 기존 리소스 핸들러(/upload/** → file:${app.upload.root}).
+ * 같은 파일을 두 경로로 반복 요청해 전체 응답 / 조건부(304) 응답 지연을 비교한다.
+ * 실행: ./gradlew benchmarkTest --tests '*ImageServingBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ImageServingBenchmarkTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final int IMAGE_BYTES = 256 * 1024;
+
+    @LocalServerPort int port;
+    @Autowired ImageStorage imageStorage;
+    @Value("${app.upload.root}") String uploadRoot;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private byte[] bytes;
+    private ImageStorage.StoredImage stored;
+    private Path legacyFile;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        bytes = new byte[IMAGE_BYTES];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        String sha = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        stored = imageStorage.ingest(new ByteArrayInputStream(bytes), ".jpg");
+        imageStorage.release(stored.sha256());
+        legacyFile = Path.of(uploadRoot, "bench-legacy", sha + ".jpg");
+        Files.createDirectories(legacyFile.getParent());
+        Files.write(legacyFile, bytes);
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        imageStorage.delete(stored.storedPath(), stored.storedName());
+        Files.deleteIfExists(legacyFile);
+    }
+
+    @Test
+    @DisplayName("새 경로: 강한 ETag/immutable/304/Range 가 동작하고, 기존 핸들러 대비 지연을 출력한다")
+    void compareWithResourceHandler() throws Exception {
+        String newUrl = "http://localhost:" + port + stored.url();
+        String legacyUrl = "http://localhost:" + port + "/upload/bench-legacy/" + legacyFile.getFileName();
+
+        // 정합성
+        HttpResponse<byte[]> full = http.send(HttpRequest.newBuilder(URI.create(newUrl)).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(full.statusCode()).isEqualTo(200);
+        assertThat(full.body()).isEqualTo(bytes);
+        String etag = full.headers().firstValue("ETag").orElseThrow();
+        assertThat(etag).isEqualTo("\"" + stored.storedName().substring(0, 64) + "\"");
+        assertThat(full.headers().firstValue("Cache-Control").orElseThrow()).contains("immutable");
+
+        HttpResponse<byte[]> notModified = http.send(HttpRequest.newBuilder(URI.create(newUrl))
+                .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(notModified.statusCode()).isEqualTo(304);
+
+        HttpResponse<byte[]> partial = http.send(HttpRequest.newBuilder(URI.create(newUrl))
+                .header("Range", "bytes=100-199").build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(partial.statusCode()).isEqualTo(206);
+        assertThat(partial.body()).isEqualTo(Arrays.copyOfRange(bytes, 100, 200));
+        assertThat(partial.headers().firstValue("Content-Range").orElseThrow()).isEqualTo("bytes 100-199/" + IMAGE_BYTES);
+
+        HttpResponse<byte[]> legacy = http.send(HttpRequest.newBuilder(URI.create(legacyUrl)).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(legacy.statusCode()).isEqualTo(200);
+        String lastModified = legacy.headers().firstValue("Last-Modified").orElseThrow();
+
+        // 워밍업 후 측정
+        run(newUrl, null, null, 200);
+        run(legacyUrl, null, null, 200);
+        double newFull = run(newUrl, null, null, REQUESTS);
+        double legacyFull = run(legacyUrl, null, null, REQUESTS);
+        double newCond = run(newUrl, "If-None-Match", etag, REQUESTS);
+        double legacyCond = run(legacyUrl, "If-Modified-Since", lastModified, REQUESTS);
+
+        System.out.printf("image %dKB x%d  full: new=%.1fus legacy=%.1fus  conditional: new=%.1fus legacy=%.1fus%n",
+                IMAGE_BYTES / 1024, REQUESTS, newFull, legacyFull, newCond, legacyCond);
+    }
+
+    /** 평균 지연(us) */
+    private double run(String url, String header, String value, int n) throws Exception {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(url));
+        if (header != null) b.header(header, value);
+        HttpRequest req = b.build();
+        long t0 = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            HttpResponse<Void> res = http.send(req, HttpResponse.BodyHandlers.discarding());
+            assertThat(res.statusCode()).isIn(200, 304);
+        }
+        return (System.nanoTime() - t0) / 1e3 / n;
+    }
+}
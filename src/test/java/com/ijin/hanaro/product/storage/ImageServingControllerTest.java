@@ -0,0 +1,33 @@
+package com.ijin.hanaro.product.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageServingControllerTest {
+
+    @Test
+    @DisplayName("Range 헤더: 단일 범위는 잘라 주고, 범위 밖은 416, 다중/형식 오류는 무시한다")
+    void parseRange() {
+        assertThat(ImageServingController.parseRange("bytes=0-99", 1000)).containsExactly(0, 99);
+        assertThat(ImageServingController.parseRange("bytes=900-", 1000)).containsExactly(900, 999);
+        assertThat(ImageServingController.parseRange("bytes=-100", 1000)).containsExactly(900, 999);
+        assertThat(ImageServingController.parseRange("bytes=500-5000", 1000)).containsExactly(500, 999);
+        assertThat(ImageServingController.parseRange("bytes=1000-", 1000)).isNull();
+        assertThat(ImageServingController.parseRange("bytes=0-1,5-6", 1000)).isEmpty();
+        assertThat(ImageServingController.parseRange("items=0-1", 1000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-None-Match: 목록/약한 ETag 는 일치로 보고, * 는 파일 확인 뒤 따로 본다")
+    void ifNoneMatch() {
+        String etag = "\"abc\"";
+        assertThat(ImageServingController.matches("\"x\", \"abc\"", etag)).isTrue();
+        assertThat(ImageServingController.matches("W/\"abc\"", etag)).isTrue();
+        assertThat(ImageServingController.matches("*", etag)).isFalse();
+        assertThat(ImageServingController.isWildcard(" * ")).isTrue();
+        assertThat(ImageServingController.matches("\"x\"", etag)).isFalse();
+        assertThat(ImageServingController.matches(null, etag)).isFalse();
+    }
+}
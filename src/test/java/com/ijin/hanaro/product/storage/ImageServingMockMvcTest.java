@@ -0,0 +1,116 @@
+package com.ijin.hanaro.product.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 업로드 루트는 임시 디렉터리 (실제 업로드 폴더를 건드리지 않도록)
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ImageServingMockMvcTest {
+
+    private static final int IMAGE_BYTES = 4 * 1024;
+
+    @DynamicPropertySource
+    static void uploadRoot(DynamicPropertyRegistry registry) {
+        registry.add("app.upload.root", () -> {
+            try {
+                return Files.createTempDirectory("image-serving").toString();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Autowired MockMvc mvc;
+    @Autowired ImageStorage imageStorage;
+
+    private byte[] bytes;
+    private ImageStorage.StoredImage stored;
+    private String etag;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        bytes = new byte[IMAGE_BYTES];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        stored = imageStorage.ingest(new ByteArrayInputStream(bytes), ".jpg");
+        imageStorage.release(stored.sha256());
+        etag = "\"" + stored.sha256() + "\"";
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        imageStorage.delete(stored.storedPath(), stored.storedName());
+    }
+
+    @Test
+    @DisplayName("ETag 가 맞으면 304, 아니면 전체 본문과 immutable 캐시 헤더를 준다")
+    void ifNoneMatch() throws Exception {
+        mvc.perform(get(stored.url()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, ImageServingController.CACHE_CONTROL))
+                .andExpect(content().bytes(bytes));
+
+        mvc.perform(get(stored.url()).header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        mvc.perform(get(stored.url()).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("If-None-Match: * 는 파일이 있을 때만 304, 없으면 404")
+    void wildcardChecksExistence() throws Exception {
+        mvc.perform(get(stored.url()).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified());
+
+        imageStorage.delete(stored.storedPath(), stored.storedName());
+        mvc.perform(get(stored.url()).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("단일 Range 는 206 과 해당 구간, 범위 밖은 416 과 전체 길이, If-Range 가 다르면 전체를 준다")
+    void range() throws Exception {
+        mvc.perform(get(stored.url()).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/" + IMAGE_BYTES))
+                .andExpect(content().bytes(Arrays.copyOfRange(bytes, 10, 20)));
+
+        mvc.perform(get(stored.url()).header(HttpHeaders.RANGE, "bytes=-100"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(bytes, IMAGE_BYTES - 100, IMAGE_BYTES)));
+
+        mvc.perform(get(stored.url()).header(HttpHeaders.RANGE, "bytes=" + IMAGE_BYTES + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + IMAGE_BYTES));
+
+        mvc.perform(get(stored.url()).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(bytes));
+    }
+}
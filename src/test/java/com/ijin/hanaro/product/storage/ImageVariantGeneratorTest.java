@@ -0,0 +1,61 @@
+package com.ijin.hanaro.product.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantGeneratorTest {
+
+    @TempDir Path root;
+    @TempDir Path staging;
+
+    @Test
+    @DisplayName("축소본: 설정 폭으로 비율을 유지해 줄이고, 원본보다 넓은 폭은 원본을 복사하며, 원본 삭제 시 함께 지운다")
+    void generatesFixedWidthVariants() throws Exception {
+        LocalImageStorage storage = new LocalImageStorage(root.toString(), staging.toString());
+        ImageVariantGenerator generator = new ImageVariantGenerator(storage, new SimpleMeterRegistry(),
+                new int[]{320, 2000}, 1, 4, 40_000_000L);
+
+        BufferedImage src = new BufferedImage(1200, 900, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = src.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.RED, 1200, 900, Color.BLUE));
+        g.fillRect(0, 0, 1200, 900);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(src, "jpeg", out);
+        ImageStorage.StoredImage stored = storage.ingest(new ByteArrayInputStream(out.toByteArray()), ".jpg");
+
+        generator.generate(stored.storedPath(), stored.storedName());
+
+        Path small = storage.resolve(stored.storedPath(), ImageVariants.variantName(stored.storedName(), 320));
+        BufferedImage thumb = ImageIO.read(small.toFile());
+        assertThat(thumb.getWidth()).isEqualTo(320);
+        assertThat(thumb.getHeight()).isEqualTo(240);
+        assertThat(Files.size(small)).isLessThan(stored.sizeBytes() / 5);
+        Path wide = storage.resolve(stored.storedPath(), ImageVariants.variantName(stored.storedName(), 2000));
+        assertThat(Files.readAllBytes(wide)).isEqualTo(out.toByteArray());
+
+        Map<Integer, String> urls = generator.variantUrls(stored.url());
+        assertThat(urls).containsOnlyKeys(320, 2000);
+        assertThat(urls.get(320)).isEqualTo(stored.storedPath() + "/" + stored.sha256() + "_w320.jpg");
+        assertThat(generator.thumbnailUrl(stored.url())).isEqualTo(urls.get(320));
+        assertThat(generator.thumbnailUrl("/upload/2024/01/01/legacy.webp")).isEqualTo("/upload/2024/01/01/legacy.webp");
+
+        generator.deleteVariants(stored.storedPath(), stored.storedName());
+        assertThat(small).doesNotExist();
+        assertThat(wide).doesNotExist();
+        generator.shutdown();
+    }
+}
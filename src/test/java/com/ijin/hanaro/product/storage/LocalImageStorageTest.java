@@ -0,0 +1,141 @@
+package com.ijin.hanaro.product.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalImageStorageTest {
+
+    private static final int UPLOADS = 10_000;
+    private static final int DISTINCT = 1_000;
+
+    @TempDir Path root;
+    @TempDir Path staging;
+
+    @Test
+    @DisplayName("동시 업로드 1만 건: 같은 내용은 한 파일로 합쳐지고, 모든 파일이 완전한 내용으로 남으며 임시 파일이 없다")
+    void concurrentUploadsAreAtomicAndDeduplicated() throws Exception {
+        LocalImageStorage storage = new LocalImageStorage(root.toString(), staging.toString());
+        List<byte[]> contents = new ArrayList<>(DISTINCT);
+        List<String> checksums = new ArrayList<>(DISTINCT);
+        for (int i = 0; i < DISTINCT; i++) {
+            byte[] bytes = new byte[8 * 1024];
+            ThreadLocalRandom.current().nextBytes(bytes);
+            ByteBuffer.wrap(bytes).putInt(i);
+            contents.add(bytes);
+            checksums.add(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes)));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger deduplicated = new AtomicInteger();
+        List<Future<ImageStorage.StoredImage>> futures = new ArrayList<>(UPLOADS);
+        for (int i = 0; i < UPLOADS; i++) {
+            int k = i % DISTINCT;
+            futures.add(pool.submit(() -> {
+                start.await();
+                ImageStorage.StoredImage s = storage.ingest(new ByteArrayInputStream(contents.get(k)), ".jpg");
+                storage.release(s.sha256());
+                if (s.deduplicated()) deduplicated.incrementAndGet();
+                return s;
+            }));
+        }
+        start.countDown();
+        for (int i = 0; i < UPLOADS; i++) {
+            ImageStorage.StoredImage s = futures.get(i).get(60, TimeUnit.SECONDS);
+            String sha = checksums.get(i % DISTINCT);
+            assertThat(s.storedName()).isEqualTo(sha + ".jpg");
+            assertThat(s.url()).isEqualTo("/upload/" + sha.substring(0, 2) + "/" + sha.substring(2, 4) + "/" + sha + ".jpg");
+        }
+        pool.shutdown();
+
+        List<Path> files;
+        try (Stream<Path> s = Files.walk(root)) {
+            files = s.filter(Files::isRegularFile).toList();
+        }
+        assertThat(files).hasSize(DISTINCT);
+        try (Stream<Path> s = Files.list(staging)) {
+            assertThat(s.count()).isZero();
+        }
+        for (int k = 0; k < DISTINCT; k++) {
+            Path p = storage.resolve("/upload/" + checksums.get(k).substring(0, 2) + "/" + checksums.get(k).substring(2, 4),
+                    checksums.get(k) + ".jpg");
+            assertThat(Files.readAllBytes(p)).isEqualTo(contents.get(k));
+        }
+        // 경합으로 동시에 쓴 경우를 빼면 대부분은 기존 파일 재사용
+        assertThat(deduplicated.get()).isGreaterThan(UPLOADS - DISTINCT * 4);
+    }
+
+    @Test
+    @DisplayName("ingest: 스트림을 한 번 읽어 SHA-256 이름으로 저장하고, 같은 내용은 다시 쓰지 않으며 임시 파일을 남기지 않는다")
+    void ingestHashesWhileWriting() throws Exception {
+        LocalImageStorage storage = new LocalImageStorage(root.toString(), staging.toString());
+        byte[] bytes = new byte[300 * 1024];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        String sha = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+
+        ImageStorage.StoredImage first = storage.ingest(new ByteArrayInputStream(bytes), ".png");
+        ImageStorage.StoredImage second = storage.ingest(new ByteArrayInputStream(bytes), ".png");
+
+        assertThat(first.sha256()).isEqualTo(sha);
+        assertThat(first.sizeBytes()).isEqualTo(bytes.length);
+        assertThat(first.deduplicated()).isFalse();
+        assertThat(second.deduplicated()).isTrue();
+        assertThat(Files.readAllBytes(storage.resolve(first.storedPath(), first.storedName()))).isEqualTo(bytes);
+        try (Stream<Path> s = Files.list(staging)) {
+            assertThat(s.count()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("공유 파일은 업로드 중(release 전)이거나 참조가 남아 있으면 지우지 않고, 둘 다 없을 때만 지운다")
+    void deletesOnlyUnpinnedAndUnreferencedFiles() throws Exception {
+        LocalImageStorage storage = new LocalImageStorage(root.toString(), staging.toString());
+        byte[] bytes = new byte[4 * 1024];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        ImageStorage.StoredImage first = storage.ingest(new ByteArrayInputStream(bytes), ".jpg");
+        ImageStorage.StoredImage second = storage.ingest(new ByteArrayInputStream(bytes), ".jpg");
+        Path file = storage.resolve(first.storedPath(), first.storedName());
+        AtomicInteger cleanups = new AtomicInteger();
+
+        storage.release(first.sha256());
+        // 같은 내용을 올리는 두 번째 업로드가 아직 커밋 전
+        assertThat(storage.deleteIfUnreferenced(first.storedPath(), first.storedName(), () -> false, cleanups::incrementAndGet)).isFalse();
+        storage.release(second.sha256());
+        // 커밋된 행이 참조 중
+        assertThat(storage.deleteIfUnreferenced(first.storedPath(), first.storedName(), () -> true, cleanups::incrementAndGet)).isFalse();
+        assertThat(file).exists();
+        assertThat(cleanups.get()).isZero();
+
+        assertThat(storage.deleteIfUnreferenced(first.storedPath(), first.storedName(), () -> false, cleanups::incrementAndGet)).isTrue();
+        assertThat(file).doesNotExist();
+        assertThat(cleanups.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 확장자, 저장소 밖을 가리키는 경로, 업로드 루트 안의 임시 디렉터리는 거부한다")
+    void rejectsInvalidNames() {
+        LocalImageStorage storage = new LocalImageStorage(root.toString(), staging.toString());
+        assertThatThrownBy(() -> storage.ingest(new ByteArrayInputStream(new byte[]{1}), "/../../x"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LocalImageStorage(root.toString(), root.resolve(".staging").toString()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.resolve("/upload/../..", "secret"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,197 @@
+package com.ijin.hanaro.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 노드 여러 개를 같은 DB 를 보는 SchedulerLeader 인스턴스로 흉내 내고, 틱마다 모두 동시에 작업을 시도한다
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchedulerLeaderTest {
+
+    private static final int NODES = 4;
+    private static final int TICKS = 10;
+    private static final long TTL_MS = 1500;
+
+    @Autowired SchedulerLeaseRepository leases;
+    @Autowired PlatformTransactionManager txManager;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TaskScheduler taskScheduler;
+
+    private final String job = "test-" + UUID.randomUUID().toString().substring(0, 8);
+    private final ExecutorService pool = Executors.newFixedThreadPool(NODES);
+
+    @AfterEach
+    void cleanup() {
+        pool.shutdownNow();
+        jdbc.update("DELETE FROM scheduler_lease WHERE name LIKE ?", job + "%");
+    }
+
+    @Test
+    @DisplayName("여러 노드가 같은 틱에 동시에 시도해도 작업은 틱마다 한 번만 실행되고, 리더가 멈추면 다른 노드가 더 큰 토큰으로 인수한다")
+    void runsExactlyOncePerTick() throws Exception {
+        List<SchedulerLeader> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) nodes.add(node("node-" + i));
+
+        List<String> firstRunners = new ArrayList<>();
+        AtomicLong firstToken = new AtomicLong();
+        for (int tick = 0; tick < TICKS; tick++) {
+            List<String> runners = tick(nodes, firstToken);
+            assertThat(runners).as("tick %d", tick).hasSize(1);
+            firstRunners.addAll(runners);
+        }
+        // 리더는 임대를 유지하므로 매 틱 같은 노드가 실행한다
+        assertThat(firstRunners).containsOnly(firstRunners.get(0));
+
+        SchedulerLeader crashed = nodes.stream().filter(n -> n.owner().equals(firstRunners.get(0))).findFirst().orElseThrow();
+        SchedulerLeader.Fence staleFence = fenceOf(crashed);
+        nodes.remove(crashed);
+        Thread.sleep(TTL_MS + 500);
+
+        AtomicLong secondToken = new AtomicLong();
+        List<String> takeover = tick(nodes, secondToken);
+        assertThat(takeover).hasSize(1).doesNotContain(crashed.owner());
+        assertThat(secondToken.get()).isGreaterThan(firstToken.get());
+        for (int tick = 0; tick < TICKS; tick++) {
+            assertThat(tick(nodes, secondToken)).isEqualTo(takeover);
+        }
+        // 멈췄다 깨어난 옛 리더의 쓰기는 펜싱 토큰으로 막힌다
+        assertThatThrownBy(staleFence::check).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("노드 하나에서 작업이 ttl 보다 오래 걸려도 @Scheduled 스레드 풀에서 renewHeld 가 연장해 임대를 잃지 않는다")
+    void longJobKeepsLeaseOnSingleNode() throws Exception {
+        SchedulerLeader leader = node("long");
+        SchedulerLeader rival = node("rival");
+        // 앱의 @Scheduled 와 같은 스케줄러에서 긴 작업과 주기 연장을 함께 돌린다 (스레드가 1개면 연장이 작업 뒤로 밀린다)
+        ScheduledFuture<?> renew = taskScheduler.scheduleWithFixedDelay(leader::renewHeld, Duration.ofMillis(TTL_MS / 3));
+        try {
+            CompletableFuture<Boolean> rivalRan = new CompletableFuture<>();
+            CompletableFuture<Boolean> done = new CompletableFuture<>();
+            taskScheduler.schedule(() -> {
+                try {
+                    done.complete(leader.runIfLeader(job, fence -> {
+                        try {
+                            Thread.sleep(TTL_MS + 500);
+                            rivalRan.complete(rival.runIfLeader(job, f -> {}));
+                            Thread.sleep(TTL_MS);
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        // 묶음 트랜잭션처럼 확인과 쓰기를 한 트랜잭션에서
+                        new TransactionTemplate(txManager).executeWithoutResult(s -> fence.check());
+                    }));
+                } catch (RuntimeException e) {
+                    done.completeExceptionally(e);
+                }
+            }, Instant.now());
+
+            assertThat(done.get(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(rivalRan.get()).isFalse();
+        } finally {
+            renew.cancel(true);
+        }
+    }
+
+    @Test
+    @DisplayName("한 작업의 임대 행이 실행 중 트랜잭션에 공유 잠금돼 있어도 renewHeld 는 잠금 대기를 짧게 끊고 다른 작업의 임대를 연장한다")
+    void blockedRenewalDoesNotDelayOtherLeases() throws Exception {
+        String locked = job + "-locked";
+        String other = job + "-other";
+        SchedulerLeader leader = new SchedulerLeader(new SchedulerLeaseRepository(jdbc, 1), txManager,
+                new SimpleMeterRegistry(), new NodeId(job + "-renew"), true, 60_000);
+        SchedulerLeader.Fence lockedFence = fenceOf(leader, locked);
+        assertThat(leader.runIfLeader(other, f -> {})).isTrue();
+
+        // 집계 트랜잭션이 커밋 직전 fence.check() 로 임대 행을 공유 잠금한 채 머무는 상황
+        CountDownLatch checked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> running = pool.submit(() -> new TransactionTemplate(txManager).executeWithoutResult(s -> {
+            lockedFence.check();
+            checked.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            assertThat(checked.await(10, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(10);
+            Timestamp before = expiresAt(other);
+
+            long t0 = System.nanoTime();
+            leader.renewHeld();
+            long elapsedMs = (System.nanoTime() - t0) / 1_000_000;
+
+            // 기본 innodb_lock_wait_timeout(50초)이 아니라 lockWaitTimeoutSeconds 안팎에서 끝난다
+            assertThat(elapsedMs).isLessThan(5_000);
+            assertThat(expiresAt(other)).isAfter(before);
+        } finally {
+            release.countDown();
+            running.get(10, TimeUnit.SECONDS);
+        }
+        // 잠금이 풀리면 막혔던 임대도 같은 임기로 연장되고 fence 는 유효하다
+        leader.renewHeld();
+        new TransactionTemplate(txManager).executeWithoutResult(s -> lockedFence.check());
+    }
+
+    private Timestamp expiresAt(String name) {
+        return jdbc.queryForObject("SELECT expires_at FROM scheduler_lease WHERE name = ?", Timestamp.class, name);
+    }
+
+    private SchedulerLeader node(String name) {
+        return new SchedulerLeader(leases, txManager, new SimpleMeterRegistry(), new NodeId(job + "-" + name), true, TTL_MS);
+    }
+
+    /** 모든 노드가 동시에 runIfLeader 를 부르고, 작업을 실행한 노드 목록을 돌려준다 */
+    private List<String> tick(List<SchedulerLeader> nodes, AtomicLong token) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<String> runners = new CopyOnWriteArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        for (SchedulerLeader n : nodes) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return n.runIfLeader(job, fence -> {
+                    fence.check();
+                    token.set(fence.token());
+                    runners.add(n.owner());
+                });
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(10, TimeUnit.SECONDS);
+        return runners;
+    }
+
+    private SchedulerLeader.Fence fenceOf(SchedulerLeader leader) {
+        return fenceOf(leader, job);
+    }
+
+    private SchedulerLeader.Fence fenceOf(SchedulerLeader leader, String name) {
+        SchedulerLeader.Fence[] fence = new SchedulerLeader.Fence[1];
+        assertThat(leader.runIfLeader(name, f -> fence[0] = f)).isTrue();
+        return fence[0];
+    }
+}
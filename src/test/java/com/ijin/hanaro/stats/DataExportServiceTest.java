@@ -0,0 +1,50 @@
+package com.ijin.hanaro.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DataExportServiceTest {
+
+    @Autowired DataExportService exportService;
+    @Autowired JdbcTemplate jdbc;
+
+    @Test
+    @DisplayName("gzip 스트리밍 내보내기 결과가 테이블 행 수와 일치하고 다중 행 INSERT 로 작성된다")
+    void gzipExportMatchesRowCounts() throws Exception {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        DataExportService.ExportResult r = exportService.export(buf, true);
+
+        String sql;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(buf.toByteArray()))) {
+            sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        assertThat(r.users()).isEqualTo(count("users"));
+        assertThat(r.products()).isEqualTo(count("products"));
+        assertThat(r.orders()).isEqualTo(count("orders"));
+        assertThat(r.orderItems()).isEqualTo(count("order_items"));
+
+        assertThat(sql).startsWith("-- generated by DataExportService");
+        assertThat(sql).endsWith("SET FOREIGN_KEY_CHECKS=1;\n");
+        if (r.users() > 0) {
+            assertThat(sql).contains("INSERT INTO users (id, username, password, nickname, phone, role, enabled, deleted_at) VALUES\n(");
+        }
+    }
+
+    private long count(String table) {
+        return jdbc.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ijin.hanaro.stats;
+
+import com.ijin.hanaro.product.Product;
+import com.ijin.hanaro.product.ProductRepository;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SalesAggregationTest {
+
+    // 실제 데이터와 겹치지 않는 과거 일자
+    private static final LocalDate DAY = LocalDate.of(2001, 1, 1);
+
+    @Autowired StatsBatch statsBatch;
+    @Autowired UserRepository userRepo;
+    @Autowired ProductRepository productRepo;
+    @Autowired JdbcTemplate jdbc;
+
+    private User user;
+    private Product p1, p2;
+
+    @BeforeAll
+    void setUp() {
+        User u = new User();
+        u.setUsername("agg_" + UUID.randomUUID().toString().substring(0, 8));
+        u.setPassword("{noop}pass");
+        u.setNickname("집계테스트");
+        user = userRepo.save(u);
+        p1 = productRepo.save(product("집계상품1", "1000.00"));
+        p2 = productRepo.save(product("집계상품2", "2500.00"));
+
+        // DELIVERED 2건 + CANCELED 1건(제외 대상)
+        long o1 = order("DELIVERED", "AGG-1");
+        item(o1, p1, "1000.00", 2);
+        item(o1, p2, "2500.00", 1);
+        long o2 = order("DELIVERED", "AGG-2");
+        item(o2, p1, "1000.00", 3);
+        long o3 = order("CANCELED", "AGG-3");
+        item(o3, p2, "2500.00", 10);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbc.update("DELETE oi FROM order_items oi JOIN orders o ON o.id = oi.order_id WHERE o.user_id = ?", user.getId());
+        jdbc.update("DELETE FROM orders WHERE user_id = ?", user.getId());
+        jdbc.update("DELETE FROM daily_product_sales WHERE sales_date = ?", DAY);
+        jdbc.update("DELETE FROM daily_sales WHERE sales_date = ?", DAY);
+        productRepo.deleteAllById(java.util.List.of(p1.getId(), p2.getId()));
+        userRepo.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("일자 집계는 SQL 한 번으로 일자/상품별 합계를 계산하고, 재실행해도 값이 같다(upsert)")
+    void aggregateDayIsIdempotent() {
+        statsBatch.aggregateFor(DAY);
+        statsBatch.aggregateFor(DAY);
+
+        Map<String, Object> daily = jdbc.queryForMap(
+                "SELECT total_orders, total_items, total_amount FROM daily_sales WHERE sales_date = ?", DAY);
+        assertThat(((Number) daily.get("total_orders")).intValue()).isEqualTo(2);
+        assertThat(((Number) daily.get("total_items")).intValue()).isEqualTo(6);
+        assertThat((BigDecimal) daily.get("total_amount")).isEqualByComparingTo("7500");
+
+        Map<String, Object> prod1 = jdbc.queryForMap(
+                "SELECT qty, amount FROM daily_product_sales WHERE sales_date = ? AND product_id = ?", DAY, p1.getId());
+        assertThat(((Number) prod1.get("qty")).intValue()).isEqualTo(5);
+        assertThat((BigDecimal) prod1.get("amount")).isEqualByComparingTo("5000");
+
+        Integer productRows = jdbc.queryForObject(
+                "SELECT count(*) FROM daily_product_sales WHERE sales_date = ?", Integer.class, DAY);
+        assertThat(productRows).isEqualTo(2);
+    }
+
+    private Product product(String name, String price) {
+        Product p = new Product();
+        p.setName(name);
+        p.setPrice(new BigDecimal(price));
+        p.setStockQuantity(100);
+        return p;
+    }
+
+    private long order(String status, String suffix) {
+        Timestamp paidAt = Timestamp.valueOf(DAY.atTime(12, 0));
+        Timestamp updatedAt = Timestamp.valueOf(DAY.plusDays(1).atTime(12, 0));
+        String orderNo = suffix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        jdbc.update("""
+            INSERT INTO orders (order_no, user_id, status, total_price, paid_at, status_updated_at, created_at)
+            VALUES (?, ?, ?, 0, ?, ?, ?)
+        """, orderNo, user.getId(), status, paidAt, updatedAt, paidAt);
+        return jdbc.queryForObject("SELECT id FROM orders WHERE order_no = ?", Long.class, orderNo);
+    }
+
+    private void item(long orderId, Product p, String unitPrice, int qty) {
+        jdbc.update("INSERT INTO order_items (order_id, product_id, product_name, unit_price, quantity) VALUES (?, ?, ?, ?, ?)",
+                orderId, p.getId(), p.getName(), new BigDecimal(unitPrice), qty);
+    }
+}
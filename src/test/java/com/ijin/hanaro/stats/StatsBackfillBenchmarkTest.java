@@ -0,0 +1,135 @@
+package com.ijin.hanaro.stats;
+
+import com.ijin.hanaro.product.Product;
+import com.ijin.hanaro.product.ProductRepository;
+import com.ijin.hanaro.stats.dto.BackfillProgressResponse;
+import com.ijin.hanaro.user.User;
+import com.ijin.hanaro.user.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1년치(365일) 매출 통계 백필 처리량: 순차 aggregateFor 루프 vs 워커 풀 백필.
+ * 실행: ./gradlew benchmarkTest --tests '*StatsBackfillBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatsBackfillBenchmarkTest {
+
+    private static final LocalDate FROM = LocalDate.of(2002, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2002, 12, 31);
+    private static final int ORDERS_PER_DAY = 50;
+
+    @Autowired StatsBatch statsBatch;
+    @Autowired StatsBackfillService backfillService;
+    @Autowired UserRepository userRepo;
+    @Autowired ProductRepository productRepo;
+    @Autowired JdbcTemplate jdbc;
+
+    private User user;
+    private Long jobId;
+    private final List<Product> products = new ArrayList<>();
+    private final String tag = "BF-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @BeforeAll
+    void seed() {
+        User u = new User();
+        u.setUsername(tag.toLowerCase());
+        u.setPassword("{noop}bench");
+        u.setNickname("backfill");
+        user = userRepo.save(u);
+        for (int i = 0; i < 20; i++) {
+            Product p = new Product();
+            p.setName(tag + "-상품" + i);
+            p.setPrice(new BigDecimal(1000 + i * 100));
+            p.setStockQuantity(1_000_000);
+            products.add(productRepo.save(p));
+        }
+
+        List<Object[]> orders = new ArrayList<>();
+        int n = 0;
+        for (LocalDate d = FROM; !d.isAfter(TO); d = d.plusDays(1)) {
+            for (int i = 0; i < ORDERS_PER_DAY; i++) {
+                Timestamp ts = Timestamp.valueOf(d.atTime(10, 0).plusMinutes(i));
+                orders.add(new Object[]{tag + "-" + (n++), user.getId(), "DELIVERED", new BigDecimal("0"), ts, ts, ts});
+            }
+        }
+        jdbc.batchUpdate("""
+            INSERT INTO orders (order_no, user_id, status, total_price, paid_at, status_updated_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+        """, orders);
+
+        List<Long> orderIds = jdbc.queryForList("SELECT id FROM orders WHERE user_id = ?", Long.class, user.getId());
+        List<Object[]> items = new ArrayList<>(orderIds.size() * 2);
+        for (int i = 0; i < orderIds.size(); i++) {
+            for (int k = 0; k < 2; k++) {
+                Product p = products.get((i + k * 7) % products.size());
+                items.add(new Object[]{orderIds.get(i), p.getId(), p.getName(), p.getPrice(), 1 + (i % 3)});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO order_items (order_id, product_id, product_name, unit_price, quantity) VALUES (?, ?, ?, ?, ?)", items);
+    }
+
+    @AfterAll
+    void cleanup() {
+        jdbc.update("DELETE oi FROM order_items oi JOIN orders o ON o.id = oi.order_id WHERE o.user_id = ?", user.getId());
+        jdbc.update("DELETE FROM orders WHERE user_id = ?", user.getId());
+        jdbc.update("DELETE FROM daily_product_sales WHERE sales_date BETWEEN ? AND ?", FROM, TO);
+        jdbc.update("DELETE FROM daily_sales WHERE sales_date BETWEEN ? AND ?", FROM, TO);
+        if (jobId != null) {
+            jdbc.update("DELETE FROM stats_backfill_day WHERE job_id = ?", jobId);
+            jdbc.update("DELETE FROM stats_backfill_job WHERE id = ?", jobId);
+        }
+        productRepo.deleteAll(products);
+        userRepo.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("1년치 백필: 워커 풀 병렬 실행 처리량을 순차 실행과 비교한다")
+    void oneYearBackfillThroughput() throws Exception {
+        int days = (int) (TO.toEpochDay() - FROM.toEpochDay() + 1);
+
+        long t0 = System.nanoTime();
+        for (LocalDate d = FROM; !d.isAfter(TO); d = d.plusDays(1)) {
+            statsBatch.aggregateFor(d);
+        }
+        double sequentialSec = (System.nanoTime() - t0) / 1e9;
+
+        t0 = System.nanoTime();
+        jobId = backfillService.start(FROM, TO);
+        BackfillProgressResponse p = backfillService.progress(jobId);
+        LocalDateTime deadline = LocalDateTime.now().plusMinutes(10);
+        while (p.status().equals("RUNNING") && LocalDateTime.now().isBefore(deadline)) {
+            Thread.sleep(100);
+            p = backfillService.progress(jobId);
+        }
+        double parallelSec = (System.nanoTime() - t0) / 1e9;
+
+        System.out.printf("backfill %d days (%d orders/day)%n", days, ORDERS_PER_DAY);
+        System.out.printf("sequential: %.2fs (%.1f days/s)%n", sequentialSec, days / sequentialSec);
+        System.out.printf("parallel  : %.2fs (%.1f days/s)%n", parallelSec, days / parallelSec);
+
+        assertThat(p.status()).isEqualTo("COMPLETED");
+        assertThat(p.doneDays()).isEqualTo(days);
+        assertThat(p.failures()).isEmpty();
+        Integer totalOrders = jdbc.queryForObject(
+                "SELECT COALESCE(SUM(total_orders), 0) FROM daily_sales WHERE sales_date BETWEEN ? AND ?",
+                Integer.class, FROM, TO);
+        assertThat(totalOrders).isGreaterThanOrEqualTo(days * ORDERS_PER_DAY);
+    }
+}